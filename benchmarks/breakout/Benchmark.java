@@ -0,0 +1,97 @@
+package breakout;
+
+/**
+ * Defines the core behavior of a microbenchmark and provides a base for derived
+ * classes. Each measurement iteration begins with a call to {@link #setUp()}
+ * followed by a fixed number of calls to {@link #run()}. A prepared benchmark
+ * also calls {@link #prepare()} before each operation; its operations are then
+ * timed one at a time, so the preparation is not measured.
+ *
+ * @author Ishan Pranav
+ */
+abstract class Benchmark
+{
+    private final String _name;
+    private final int _operations;
+    private final boolean _prepared;
+
+    /**
+     * Called from constructors in derived classes to initialize the
+     * {@link Benchmark} class.
+     *
+     * @param name       The name of the benchmark.
+     * @param operations The number of operations per iteration.
+     */
+    protected Benchmark(String name, int operations)
+    {
+        this(name, operations, false);
+    }
+
+    /**
+     * Called from constructors in derived classes to initialize the
+     * {@link Benchmark} class.
+     *
+     * @param name       The name of the benchmark.
+     * @param operations The number of operations per iteration.
+     * @param prepared   {@code true} if {@link #prepare()} is called before
+     *                   each operation; otherwise, {@code false}.
+     */
+    protected Benchmark(String name, int operations, boolean prepared)
+    {
+        this._name = name;
+        this._operations = operations;
+        this._prepared = prepared;
+    }
+
+    /**
+     * Gets the name of the benchmark.
+     *
+     * @return The name.
+     */
+    final String getName()
+    {
+        return this._name;
+    }
+
+    /**
+     * Gets the number of operations per iteration.
+     *
+     * @return The number of operations.
+     */
+    final int getOperations()
+    {
+        return this._operations;
+    }
+
+    /**
+     * Gets a value indicating whether {@link #prepare()} is called before each
+     * operation.
+     *
+     * @return {@code true} if the benchmark is prepared; otherwise,
+     *         {@code false}.
+     */
+    final boolean isPrepared()
+    {
+        return this._prepared;
+    }
+
+    /**
+     * Prepares the state for the next operation of a prepared benchmark. This
+     * method is not measured.
+     */
+    protected void prepare()
+    {
+    }
+
+    /**
+     * Performs one operation.
+     */
+    protected abstract void run();
+
+    /**
+     * Prepares the state for an iteration. This method is not measured.
+     */
+    protected void setUp()
+    {
+    }
+}
@@ -0,0 +1,447 @@
+package breakout;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import pong.FixedPoint;
+import pong.application.windows.PixelCanvas;
+
+/**
+ * Represents the benchmark suite for the simulation and rendering hot paths.
+ * Each benchmark reports its throughput and its allocation rate, measured from
+ * the bytes allocated by the benchmark thread.
+ *
+ * @author Ishan Pranav
+ */
+public final class Benchmarks
+{
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int HEIGHT = 600;
+    private static final int SIZE = 20;
+    private static final int BRICK_WIDTH = SIZE * 3;
+    private static final int MARGIN = SIZE / 4;
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean)ManagementFactory
+            .getThreadMXBean();
+
+    /**
+     * Specifies a value that consumes benchmark results so that they are not
+     * eliminated as dead code.
+     */
+    static volatile long sink;
+
+    private Benchmarks()
+    {
+    }
+
+    private static void add(List<Benchmark> benchmarks)
+    {
+        for (final boolean linear : new boolean[]
+        {
+            false, true
+        })
+        {
+            for (final int columns : new int[]
+            {
+                10, 100, 1000
+            })
+            {
+                for (final int particles : new int[]
+                {
+                    0, 1000, 10000
+                })
+                {
+                    final String name = "Table.update" + (linear ? " linear" : "") + " columns=" + columns
+                            + " particles=" + particles;
+                    final int operations;
+
+                    if (linear)
+                    {
+                        operations = Math.max(20, 200000 / columns / Math.max(1, particles / 1000));
+                    }
+                    else
+                    {
+                        operations = 20000;
+                    }
+
+                    benchmarks.add(new Benchmark(name, operations, particles > 0)
+                    {
+                        private Table _table;
+
+                        @Override
+                        protected void setUp()
+                        {
+                            this._table = createTable(columns);
+
+                            this._table.setLinearScan(linear);
+                            emit(this._table, particles);
+                        }
+
+                        @Override
+                        protected void prepare()
+                        {
+                            emit(this._table, particles);
+                        }
+
+                        @Override
+                        protected void run()
+                        {
+                            this._table.getPaddle().follow(this._table.getBall());
+                            this._table.update();
+                        }
+                    });
+                }
+            }
+        }
+
+        benchmarks.add(new Benchmark("Table.destroy columns=1000", 1000)
+        {
+            private Table _table;
+            private int _index;
+
+            @Override
+            protected void setUp()
+            {
+                this._table = createTable(1000);
+                this._index = 0;
+            }
+
+            @Override
+            protected void run()
+            {
+                this._table.destroy(this._table.getGrid().get(this._index));
+
+                this._index++;
+            }
+        });
+
+        for (final int columns : new int[]
+        {
+            10, 100, 1000
+        })
+        {
+            benchmarks.add(new Benchmark("Table.advance columns=" + columns, 8)
+            {
+                private Table _table;
+
+                @Override
+                protected void setUp()
+                {
+                    this._table = createTable(columns);
+                }
+
+                @Override
+                protected void run()
+                {
+                    this._table.advance();
+                }
+            });
+        }
+
+        benchmarks.add(new Benchmark("Brick.isHorizontal", 1000000)
+        {
+            private final Brick _brick = Brick.createPrototype(BRICK_WIDTH, SIZE).clone(0, 0, Color.RED, 100, 100);
+            private int _index;
+
+            @Override
+            protected void run()
+            {
+                final int i = this._index++;
+
+                if (this._brick.isHorizontal(80 + (i & 63), 80 + (i >> 6 & 63), SIZE, SIZE, (i & 1) * 8 - 4,
+                        (i & 2) * 4 - 4))
+                {
+                    sink++;
+                }
+            }
+        });
+
+        benchmarks.add(new Benchmark("Brick.sweep", 1000000)
+        {
+            private final Brick _brick = Brick.createPrototype(BRICK_WIDTH, SIZE).clone(0, 0, Color.RED, 100, 100);
+            private final Impact _impact = new Impact();
+            private int _index;
+
+            @Override
+            protected void run()
+            {
+                final int i = this._index++;
+
+                this._impact.clear();
+                this._brick.sweep(this._impact, FixedPoint.fromInt(60 + (i & 63)),
+                        FixedPoint.fromInt(60 + (i >> 6 & 63)), FixedPoint.fromInt(SIZE), FixedPoint.fromInt(SIZE),
+                        FixedPoint.fromInt((i & 1) * 16 - 8), FixedPoint.fromInt((i & 2) * 8 - 8));
+
+                sink += this._impact.getAxes();
+            }
+        });
+
+        for (final boolean linear : new boolean[]
+        {
+            false, true
+        })
+        {
+            for (final int columns : new int[]
+            {
+                10, 100, 1000
+            })
+            {
+                final String name = "BrickGrid.sweep" + (linear ? " linear" : "") + " columns=" + columns;
+                final int operations;
+
+                if (linear)
+                {
+                    operations = 10000000 / columns;
+                }
+                else
+                {
+                    operations = 1000000;
+                }
+
+                benchmarks.add(new Benchmark(name, operations)
+                {
+                    private BrickGrid _grid;
+                    private final Impact _impact = new Impact();
+                    private int _index;
+
+                    @Override
+                    protected void setUp()
+                    {
+                        this._grid = createTable(columns).getGrid();
+
+                        this._grid.setLinear(linear);
+                    }
+
+                    @Override
+                    protected void run()
+                    {
+                        final int i = this._index++;
+
+                        this._impact.clear();
+                        this._grid.sweep(this._impact, FixedPoint.fromInt(i * 37 % (columns * BRICK_WIDTH)),
+                                FixedPoint.fromInt(i * 13 % (HEIGHT / 2)), FixedPoint.fromInt(SIZE),
+                                FixedPoint.fromInt(SIZE), FixedPoint.fromInt(4), FixedPoint.fromInt(-4));
+
+                        sink += this._impact.getAxes();
+                    }
+                });
+            }
+        }
+
+        benchmarks.add(new Benchmark("Ball.move", 1000000)
+        {
+            private Table _table;
+
+            @Override
+            protected void setUp()
+            {
+                this._table = createTable(10);
+            }
+
+            @Override
+            protected void run()
+            {
+                this._table.getBall().move(FixedPoint.ONE);
+            }
+        });
+
+        for (final int columns : new int[]
+        {
+            10, 100
+        })
+        {
+            for (final int particles : new int[]
+            {
+                0, 1000, 10000
+            })
+            {
+                benchmarks.add(new Benchmark("Table.draw columns=" + columns + " particles=" + particles, 200)
+                {
+                    private Table _table;
+                    private Graphics2D _graphics2D;
+
+                    @Override
+                    protected void setUp()
+                    {
+                        this._table = createTable(columns);
+                        this._graphics2D = new BufferedImage(this._table.getWidth(), HEIGHT,
+                                BufferedImage.TYPE_INT_RGB).createGraphics();
+
+                        emit(this._table, particles);
+                    }
+
+                    @Override
+                    protected void run()
+                    {
+                        this._table.draw(this._graphics2D);
+                    }
+                });
+
+                benchmarks.add(new Benchmark("Table.rasterize columns=" + columns + " particles=" + particles, 200)
+                {
+                    private Table _table;
+                    private PixelCanvas _canvas;
+
+                    @Override
+                    protected void setUp()
+                    {
+                        this._table = createTable(columns);
+                        this._canvas = new PixelCanvas(this._table.getWidth(), HEIGHT);
+
+                        emit(this._table, particles);
+                    }
+
+                    @Override
+                    protected void run()
+                    {
+                        this._table.rasterize(this._canvas);
+                    }
+                });
+            }
+        }
+    }
+
+    private static Table createTable(int columns)
+    {
+        final int width = columns * (BRICK_WIDTH + MARGIN) + MARGIN;
+
+        return new Table(new Ball((width - SIZE) / 2, HEIGHT / 2, SIZE, 4),
+                new Paddle(width / 2 - SIZE * 2, HEIGHT - SIZE - MARGIN, SIZE * 4, SIZE, 10),
+                Brick.createPrototype(BRICK_WIDTH, SIZE), Pill.createPrototype(SIZE / 2, SIZE, 1), width, HEIGHT,
+                columns, MARGIN, new Randomizer(columns));
+    }
+
+    private static void emit(Table table, int particles)
+    {
+        final ParticleSystem particleSystem = table.getParticles();
+        final int width = table.getWidth() - SIZE;
+
+        if (particleSystem.getCapacity() < particles)
+        {
+            table.setMaxParticles(particles);
+        }
+
+        for (int i = particleSystem.getCount(); i < particles; i++)
+        {
+            particleSystem.emit(i * 37 % width, HEIGHT / 2 + i * 13 % (HEIGHT / 3), i & 1);
+        }
+    }
+
+    private static long iterate(Benchmark benchmark)
+    {
+        final int operations = benchmark.getOperations();
+
+        if (benchmark.isPrepared())
+        {
+            long result = 0;
+
+            for (int i = 0; i < operations; i++)
+            {
+                benchmark.prepare();
+
+                final long start = System.nanoTime();
+
+                benchmark.run();
+
+                result += System.nanoTime() - start;
+            }
+
+            return result;
+        }
+
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < operations; i++)
+        {
+            benchmark.run();
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Provides the main entry point for the benchmark suite. The first argument,
+     * if present, selects the benchmarks whose names contain it.
+     *
+     * @param args The application arguments.
+     */
+    public static void main(String[] args)
+    {
+        System.setProperty("java.awt.headless", "true");
+
+        final String filter;
+
+        if (args.length > 0)
+        {
+            filter = args[0];
+        }
+        else
+        {
+            filter = "";
+        }
+
+        final List<Benchmark> benchmarks = new ArrayList<Benchmark>();
+
+        add(benchmarks);
+
+        System.out.printf("%-50s %14s %12s %12s %12s%n", "Benchmark", "ops/s", "error", "B/op", "MB/s");
+
+        for (final Benchmark benchmark : benchmarks)
+        {
+            if (benchmark.getName().contains(filter))
+            {
+                measure(benchmark);
+            }
+        }
+    }
+
+    private static void measure(Benchmark benchmark)
+    {
+        final long thread = Thread.currentThread().getId();
+        final double[] throughputs = new double[MEASUREMENT_ITERATIONS];
+        final long overhead = -THREADS.getThreadAllocatedBytes(thread) + THREADS.getThreadAllocatedBytes(thread);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+        {
+            benchmark.setUp();
+
+            iterate(benchmark);
+        }
+
+        double sum = 0;
+        long nanoseconds = 0;
+        long bytes = 0;
+
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++)
+        {
+            benchmark.setUp();
+
+            final long allocated = THREADS.getThreadAllocatedBytes(thread);
+            final long elapsed = iterate(benchmark);
+
+            bytes += THREADS.getThreadAllocatedBytes(thread) - allocated - overhead;
+            nanoseconds += elapsed;
+            throughputs[i] = benchmark.getOperations() * 1e9 / elapsed;
+            sum += throughputs[i];
+        }
+
+        final double mean = sum / MEASUREMENT_ITERATIONS;
+        double variance = 0;
+
+        for (final double throughput : throughputs)
+        {
+            variance += (throughput - mean) * (throughput - mean);
+        }
+
+        final long operations = (long)benchmark.getOperations() * MEASUREMENT_ITERATIONS;
+
+        System.out.printf("%-50s %14.1f %12.1f %12.1f %12.1f%n", benchmark.getName(), mean,
+                Math.sqrt(variance / (MEASUREMENT_ITERATIONS - 1)), Math.max(0, bytes) / (double)operations,
+                Math.max(0, bytes) * 1e9 / nanoseconds / (1 << 20));
+    }
+}
@@ -0,0 +1,368 @@
+package breakout;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import breakout.application.Tables;
+import pong.application.windows.Clock;
+import pong.application.windows.RenderSignal;
+import pong.application.windows.TickScheduler;
+import pong.application.windows.TripleBuffer;
+
+/**
+ * Represents the suite of assertions about the behavior of the simulation that
+ * are too slow or too environment-dependent to be checked at run time. The
+ * application exits with a nonzero status if any check fails.
+ *
+ * @author Ishan Pranav
+ */
+public final class Checks
+{
+    private static final int ALLOCATION_SEEDS = 5;
+    private static final int WARMUP_TICKS = 20000;
+    private static final int MEASURED_TICKS = 100000;
+    private static final int MAX_ALLOCATING_TICKS = 1;
+    private static final int MAX_PARTICLES = 256;
+    private static final int ROUNDS = 20000;
+    private static final int TICKS_PER_ROUND = 3;
+    private static final long TIMEOUT_NANOSECONDS = 1000000000L;
+    private static final int SEEDS = 20;
+    private static final int SECONDS = 300;
+    private static final int FRAMES = 1000;
+    private static final int MAX_TICKS_PER_FRAME = 5;
+    private static final int MAX_SKIPPED_RENDERS = 2;
+    private static final long TICK_NANOSECONDS = 1000000000L / Table.TICKS_PER_SECOND;
+
+    /**
+     * Specifies the greatest horizontal distance between the balls of two
+     * tables updated at different tick rates, in 1/65536 pixels.
+     */
+    private static final int TOLERANCE = 256;
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean)ManagementFactory
+            .getThreadMXBean();
+
+    private Checks()
+    {
+    }
+
+    /**
+     * Plays games in which the paddle follows the ball and measures the bytes
+     * allocated by each tick after a warm-up. A tick that clears a level may
+     * allocate, since it builds the bricks of the next one. Compiling and
+     * deoptimizing code can also allocate on the thread that runs it, so one
+     * other allocating tick per game is tolerated.
+     */
+    private static void checkAllocation(List<String> failures)
+    {
+        final long thread = Thread.currentThread().getId();
+        final long overhead = -THREADS.getThreadAllocatedBytes(thread) + THREADS.getThreadAllocatedBytes(thread);
+
+        for (long seed = 0; seed < ALLOCATION_SEEDS; seed++)
+        {
+            final Table table = Tables.create(new Randomizer(seed), Table.TICKS_PER_SECOND);
+
+            table.setMaxParticles(MAX_PARTICLES);
+
+            for (int i = 0; i < WARMUP_TICKS; i++)
+            {
+                tick(table);
+            }
+
+            int allocatingTicks = 0;
+
+            for (int i = 0; i < MEASURED_TICKS; i++)
+            {
+                final int level = table.getLevel();
+                final long allocated = THREADS.getThreadAllocatedBytes(thread);
+
+                tick(table);
+
+                final long bytes = THREADS.getThreadAllocatedBytes(thread) - allocated - overhead;
+
+                if (bytes <= 0 || table.getLevel() != level)
+                {
+                    continue;
+                }
+
+                allocatingTicks++;
+
+                if (allocatingTicks > MAX_ALLOCATING_TICKS)
+                {
+                    failures.add(String.format("Table.update, seed %d: %d bytes allocated in tick %d", seed, bytes,
+                            WARMUP_TICKS + i));
+
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a simulation thread and a render thread the way a concurrent game
+     * engine does. On each round a key wakes the simulation from a static
+     * screen; it publishes a few frames and becomes static again, and the
+     * render thread must draw its last frame before it waits.
+     */
+    private static void checkRenderSignal(List<String> failures)
+    {
+        final RenderSignal signal = new RenderSignal();
+        final TripleBuffer<int[]> snapshots = new TripleBuffer<int[]>(new int[1], new int[1], new int[1]);
+        final AtomicInteger published = new AtomicInteger();
+        final AtomicInteger rendered = new AtomicInteger(-1);
+        final Thread simulationThread = new Thread(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                while (true)
+                {
+                    final int events = signal.getEvents();
+                    final int frame = published.get() + 1;
+
+                    snapshots.getBack()[0] = frame;
+                    snapshots.publish();
+                    published.set(frame);
+                    signal.publish();
+
+                    if (frame % TICKS_PER_ROUND == 0)
+                    {
+                        signal.setIdle(true);
+                        signal.waitForEvent(events);
+                        signal.setIdle(false);
+                    }
+                }
+            }
+        });
+        final Thread renderThread = new Thread(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                while (true)
+                {
+                    final int snapshotCount = signal.getSnapshots();
+                    final int events = signal.getEvents();
+                    final boolean idle = signal.isIdle();
+
+                    rendered.set(snapshots.acquire()[0]);
+
+                    if (idle)
+                    {
+                        signal.waitForSnapshot(snapshotCount, events);
+                    }
+                    else
+                    {
+                        Thread.yield();
+                    }
+                }
+            }
+        });
+
+        simulationThread.setDaemon(true);
+        renderThread.setDaemon(true);
+        signal.setSimulationThread(simulationThread);
+        signal.setRenderThread(renderThread);
+        simulationThread.start();
+        renderThread.start();
+
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            final long deadline = System.nanoTime() + TIMEOUT_NANOSECONDS;
+
+            while (!signal.isIdle() || rendered.get() != published.get())
+            {
+                if (System.nanoTime() - deadline >= 0)
+                {
+                    failures.add(String.format("RenderSignal, round %d: frame %d drawn, frame %d published", round,
+                            rendered.get(), published.get()));
+
+                    return;
+                }
+
+                Thread.yield();
+            }
+
+            signal.signal();
+        }
+    }
+
+    private static void checkTickRate(List<String> failures, int ticksPerSecond)
+    {
+        final int base = Table.TICKS_PER_SECOND;
+        final int divisor = gcd(base, ticksPerSecond);
+
+        for (long seed = 0; seed < SEEDS; seed++)
+        {
+            final Table expected = Tables.create(new Randomizer(seed), base);
+            final Table actual = Tables.create(new Randomizer(seed), ticksPerSecond);
+            boolean mismatched = false;
+
+            for (int sample = 0; sample < SECONDS * divisor; sample++)
+            {
+                for (int i = 0; i < base / divisor; i++)
+                {
+                    expected.update();
+                }
+
+                for (int i = 0; i < ticksPerSecond / divisor; i++)
+                {
+                    actual.update();
+                }
+
+                final int error = Math.abs(expected.getBall().getHorizontalPosition()
+                        - actual.getBall().getHorizontalPosition());
+
+                if (error > TOLERANCE)
+                {
+                    failures.add(String.format("Ball at %d Hz, seed %d: diverges by %d at %.3f s", ticksPerSecond,
+                            seed, error, sample / (double)divisor));
+
+                    break;
+                }
+
+                // A brick destroyed within a tick of a sample may be counted on
+                // either side of it, so a score differs only if it differs twice.
+
+                if (expected.getScore() != actual.getScore() || expected.getLevel() != actual.getLevel())
+                {
+                    if (mismatched)
+                    {
+                        failures.add(String.format("Table at %d Hz, seed %d: score %d, expected %d at %.3f s",
+                                ticksPerSecond, seed, actual.getScore(), expected.getScore(),
+                                sample / (double)divisor));
+
+                        break;
+                    }
+
+                    mismatched = true;
+                }
+                else
+                {
+                    mismatched = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the frames of a game engine against a clock that advances only
+     * while the engine updates and renders. When each update takes several
+     * ticks, the ticks run per render must stay bounded and, once ticks are
+     * dropped, their number must grow on every render; when each update is
+     * fast, no tick may be dropped.
+     */
+    private static void checkTickScheduler(List<String> failures, long updateNanoseconds)
+    {
+        final long[] time = new long[1];
+        final TickScheduler scheduler = new TickScheduler(new Clock()
+        {
+            @Override
+            public long nanoTime()
+            {
+                return time[0];
+            }
+        }, Table.TICKS_PER_SECOND, MAX_TICKS_PER_FRAME, MAX_SKIPPED_RENDERS);
+        final boolean slow = updateNanoseconds > TICK_NANOSECONDS;
+        final int maxTicks = MAX_TICKS_PER_FRAME * (MAX_SKIPPED_RENDERS + 1);
+
+        for (int frame = 0; frame < FRAMES; frame++)
+        {
+            final long droppedTicks = scheduler.getDroppedTicks();
+            int ticks = 0;
+            long now;
+
+            do
+            {
+                now = scheduler.now();
+
+                while (scheduler.isDue(now))
+                {
+                    time[0] += updateNanoseconds;
+                    ticks++;
+
+                    scheduler.tick();
+                }
+            }
+            while (scheduler.skipRender(now));
+
+            scheduler.render();
+
+            if (ticks > maxTicks)
+            {
+                failures.add(String.format("TickScheduler, %d ns per update: %d ticks in frame %d", updateNanoseconds,
+                        ticks, frame));
+
+                return;
+            }
+
+            if (slow ? droppedTicks > 0 && scheduler.getDroppedTicks() == droppedTicks
+                    : scheduler.getDroppedTicks() != 0)
+            {
+                failures.add(String.format("TickScheduler, %d ns per update: %d ticks dropped by frame %d",
+                        updateNanoseconds, scheduler.getDroppedTicks(), frame));
+
+                return;
+            }
+
+            time[0] += TICK_NANOSECONDS;
+        }
+
+        if (slow && scheduler.getDroppedTicks() == 0)
+        {
+            failures.add(String.format("TickScheduler, %d ns per update: no tick dropped", updateNanoseconds));
+        }
+    }
+
+    private static int gcd(int a, int b)
+    {
+        while (b != 0)
+        {
+            final int remainder = a % b;
+
+            a = b;
+            b = remainder;
+        }
+
+        return a;
+    }
+
+    /**
+     * Provides the main entry point for the suite.
+     *
+     * @param args The application arguments.
+     */
+    public static void main(String[] args)
+    {
+        System.setProperty("java.awt.headless", "true");
+
+        final List<String> failures = new ArrayList<String>();
+
+        checkAllocation(failures);
+        checkRenderSignal(failures);
+        checkTickRate(failures, 30);
+        checkTickRate(failures, 120);
+        checkTickScheduler(failures, TICK_NANOSECONDS * 3);
+        checkTickScheduler(failures, TICK_NANOSECONDS / 4);
+
+        for (final String failure : failures)
+        {
+            System.out.println(failure);
+        }
+
+        System.out.println(failures.size() + " failures");
+
+        if (!failures.isEmpty())
+        {
+            System.exit(1);
+        }
+    }
+
+    private static void tick(Table table)
+    {
+        table.getPaddle().follow(table.getBall());
+        table.update();
+    }
+}
@@ -2,27 +2,40 @@ package breakout;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.Rectangle;
 
 import pong.Direction;
+import pong.DrawCommandBuffer;
 import pong.Entity;
+import pong.FixedPoint;
+import pong.application.windows.DirtyRegion;
 
 /**
- * Represents a table tennis ball.
+ * Represents a table tennis ball. The position and velocity of the ball are
+ * 16.16 fixed-point numbers, so the ball can move by fractions of a pixel per
+ * tick and its trajectory is exactly reproducible. The velocity is given per
+ * tick at {@link Table#TICKS_PER_SECOND} and scaled to the tick rate of the
+ * table only when the ball moves, so smashes and speed changes give the same
+ * velocity at every tick rate.
  *
  * @author Ishan Pranav
  */
 public class Ball implements Entity, Inflatable
 {
-    private static final double SMASH_FORCE_FACTOR = 1.2;
+    private static final int SMASH_FORCE_FACTOR = FixedPoint.fromDouble(1.2);
+    private static final int MAX_IMPACTS = 8;
 
     private final int _initialHorizontalPosition;
     private final int _initialVerticalPosition;
-    private final Rectangle _rectangle;
+    private final int _size;
     private final int _speed;
     private final int _maxSpeed;
+    private final Impact _impact = new Impact();
 
     private Table _table;
+    private int _horizontalPosition;
+    private int _verticalPosition;
+    private int _previousHorizontalPosition;
+    private int _previousVerticalPosition;
     private int _horizontalVelocity;
     private int _verticalVelocity;
 
@@ -32,15 +45,20 @@ public class Ball implements Entity, Inflatable
      * @param horizontalPosition The starting horizontal position of the ball.
      * @param verticalPosition   The starting vertical position of the ball.
      * @param size               The size of the ball.
-     * @param speed              The speed of the ball.
+     * @param speed              The speed of the ball, in pixels per tick at
+     *                           {@link Table#TICKS_PER_SECOND}.
      */
     public Ball(int horizontalPosition, int verticalPosition, int size, int speed)
     {
-        this._rectangle = new Rectangle(horizontalPosition, verticalPosition, size, size);
-        this._speed = speed;
-        this._maxSpeed = speed * 2;
-        this._initialHorizontalPosition = horizontalPosition;
-        this._initialVerticalPosition = verticalPosition;
+        this._horizontalPosition = FixedPoint.fromInt(horizontalPosition);
+        this._verticalPosition = FixedPoint.fromInt(verticalPosition);
+        this._size = FixedPoint.fromInt(size);
+        this._speed = FixedPoint.fromInt(speed);
+        this._maxSpeed = this._speed * 2;
+        this._initialHorizontalPosition = this._horizontalPosition;
+        this._initialVerticalPosition = this._verticalPosition;
+
+        this.storePosition();
     }
 
     /** {@inheritDoc} */
@@ -57,17 +75,61 @@ public class Ball implements Entity, Inflatable
         this._verticalVelocity *= -1;
     }
 
+    final void capture(DrawCommandBuffer commands)
+    {
+        final int size = FixedPoint.toInt(this._size);
+
+        commands.fill(this.getDrawnHorizontalPosition(), this.getDrawnVerticalPosition(), size, size, Color.WHITE);
+    }
+
+    private void clamp()
+    {
+        if (Math.abs(this._horizontalVelocity) > this._maxSpeed)
+        {
+            this._horizontalVelocity = this._maxSpeed * Integer.signum(this._horizontalVelocity);
+        }
+
+        if (Math.abs(this._verticalVelocity) > this._maxSpeed)
+        {
+            this._verticalVelocity = this._maxSpeed * Integer.signum(this._verticalVelocity);
+        }
+    }
+
+    final void damage(DirtyRegion region)
+    {
+        final int size = FixedPoint.toInt(this._size);
+
+        region.add(this.getDrawnHorizontalPosition(), this.getDrawnVerticalPosition(), size, size);
+    }
+
     /** {@inheritDoc} */
     @Override
     public final void draw(Graphics2D graphics2D)
     {
         graphics2D.setColor(Color.WHITE);
-        graphics2D.fill(this._rectangle);
+        final int size = FixedPoint.toInt(this._size);
+
+        graphics2D.fillRect(this.getDrawnHorizontalPosition(), this.getDrawnVerticalPosition(), size, size);
     }
 
-    final double getHorizontalPosition()
+    private int getDisplacement(int velocity, int time)
     {
-        return this._rectangle.getCenterX();
+        return FixedPoint.multiply(this._table.scaleVelocity(velocity), time);
+    }
+
+    private int getDrawnHorizontalPosition()
+    {
+        return FixedPoint.toInt(this._table.interpolate(this._previousHorizontalPosition, this._horizontalPosition));
+    }
+
+    private int getDrawnVerticalPosition()
+    {
+        return FixedPoint.toInt(this._table.interpolate(this._previousVerticalPosition, this._verticalPosition));
+    }
+
+    final int getHorizontalPosition()
+    {
+        return this._horizontalPosition + this._size / 2;
     }
 
     /** {@inheritDoc} */
@@ -84,54 +146,130 @@ public class Ball implements Entity, Inflatable
         return this._verticalVelocity;
     }
 
-    final void hit(Brick brick)
+    /**
+     * Moves the ball by its velocity until a given time of the current tick,
+     * advancing the time of the table as the ball moves. The ball is
+     * swept along its path against the bricks, the paddle and the walls: at the
+     * earliest impact, it stops at the face that was hit, bounces, and
+     * continues with the rest of its motion, up to a few impacts per tick.
+     * Every bounce reflects the rest of the motion exactly, so the ball reaches
+     * the same positions at the same times whatever the tick rate. A brick that
+     * is hit is destroyed, hitting the paddle while moving in its direction
+     * smashes the ball, and hitting the floor terminates the table. If the last
+     * brick is destroyed, the ball moves from its starting position for the
+     * rest of the time.
+     *
+     * @param time The fraction of the tick at which the ball stops, as a 16.16
+     *             fixed-point number.
+     */
+    final void move(int time)
     {
-        brick.hit(this, this._rectangle, true);
-    }
+        final int size = this._size;
+        final Paddle paddle = this._table.getPaddle();
+        final Impact impact = this._impact;
+        final int end = time;
 
-    final void hit(Rectangle rectangle, Direction horizontalDirection)
-    {
-        final Rectangle intersection = this._rectangle.intersection(rectangle);
+        time -= this._table.getTime();
+
+        int horizontalDisplacement = this.getDisplacement(this._horizontalVelocity, time);
+        int verticalDisplacement = this.getDisplacement(this._verticalVelocity, time);
 
-        if (!intersection.isEmpty())
+        for (int i = 0; i < MAX_IMPACTS; i++)
         {
-            if (intersection.getWidth() > 0)
+            final BrickGrid grid = this._table.getGrid();
+
+            impact.clear();
+            grid.sweep(impact, this._horizontalPosition, this._verticalPosition, size, size, horizontalDisplacement,
+                    verticalDisplacement);
+            paddle.sweep(impact, this._horizontalPosition, this._verticalPosition, size, size, horizontalDisplacement,
+                    verticalDisplacement);
+            this._table.sweep(impact, this._horizontalPosition, this._verticalPosition, size, size,
+                    horizontalDisplacement, verticalDisplacement);
+
+            if (impact.getAxes() == 0)
             {
-                this._verticalVelocity *= -1;
+                this._horizontalPosition += horizontalDisplacement;
+                this._verticalPosition += verticalDisplacement;
+
+                break;
             }
 
-            if (intersection.getHeight() > this._rectangle.getWidth() / 5)
+            time -= FixedPoint.multiply(time, impact.getTime());
+
+            this._table.setTime(end - time);
+            horizontalDisplacement -= impact.getHorizontalPosition() - this._horizontalPosition;
+            verticalDisplacement -= impact.getVerticalPosition() - this._verticalPosition;
+            this._horizontalPosition = impact.getHorizontalPosition();
+            this._verticalPosition = impact.getVerticalPosition();
+
+            if ((impact.getAxes() & BrickGrid.HORIZONTAL) != 0)
             {
                 this._horizontalVelocity *= -1;
+                horizontalDisplacement *= -1;
+            }
+
+            if ((impact.getAxes() & BrickGrid.VERTICAL) != 0)
+            {
+                this._verticalVelocity *= -1;
+                verticalDisplacement *= -1;
             }
 
-            if (Direction.fromVector(this._horizontalVelocity) == horizontalDirection)
+            if (impact.getObstacle() == Impact.PADDLE)
+            {
+                if (Direction.fromVector(this._horizontalVelocity) == paddle.getDirection())
+                {
+                    this.smash();
+
+                    horizontalDisplacement = this.getDisplacement(this._horizontalVelocity, time);
+                    verticalDisplacement = this.getDisplacement(this._verticalVelocity, time);
+                }
+            }
+            else if (impact.getObstacle() == Impact.FLOOR)
+            {
+                this._table.terminate();
+            }
+            else if (impact.getObstacle() == Impact.BRICK)
             {
-                this._horizontalVelocity *= SMASH_FORCE_FACTOR;
-                this._verticalVelocity *= SMASH_FORCE_FACTOR;
+                this._table.destroy(impact.getBrick());
+
+                if (this._table.getGrid() != grid)
+                {
+                    horizontalDisplacement = this.getDisplacement(this._horizontalVelocity, time);
+                    verticalDisplacement = this.getDisplacement(this._verticalVelocity, time);
+                }
             }
         }
+
+        this._table.setTime(end);
     }
 
     /** {@inheritDoc} */
     @Override
     public final void reset()
     {
-        this._rectangle.setLocation(this._initialHorizontalPosition, this._initialVerticalPosition);
+        this._horizontalPosition = this._initialHorizontalPosition;
+        this._verticalPosition = this._initialVerticalPosition;
+
+        this.storePosition();
 
         this._horizontalVelocity = 0;
         this._verticalVelocity = 0;
     }
 
     /**
-     * Scales the speed of the ball by a given factor.
+     * Scales the speed of the ball by a given factor. The ball keeps fractional
+     * speeds, so it is served again only if the factor stops it.
      *
      * @param factor The scale factor.
      */
     public final void scaleSpeed(double factor)
     {
-        this._verticalVelocity *= factor;
-        this._horizontalVelocity *= factor;
+        final int scale = FixedPoint.fromDouble(factor);
+
+        this._verticalVelocity = FixedPoint.multiply(this._verticalVelocity, scale);
+        this._horizontalVelocity = FixedPoint.multiply(this._horizontalVelocity, scale);
+
+        this.clamp();
 
         if (this._verticalVelocity == 0 || this._horizontalVelocity == 0)
         {
@@ -153,35 +291,23 @@ public class Ball implements Entity, Inflatable
         this._table = value;
     }
 
-    /** {@inheritDoc} */
-    @Override
-    public final void update()
+    private void smash()
     {
-        if (Math.abs(this._horizontalVelocity) > this._maxSpeed)
-        {
-            this._horizontalVelocity = this._maxSpeed * (int)Math.signum(this._horizontalVelocity);
-        }
-
-        if (Math.abs(this._verticalVelocity) > this._maxSpeed)
-        {
-            this._horizontalVelocity = this._maxSpeed * (int)Math.signum(this._verticalVelocity);
-        }
+        this._horizontalVelocity = FixedPoint.multiply(this._horizontalVelocity, SMASH_FORCE_FACTOR);
+        this._verticalVelocity = FixedPoint.multiply(this._verticalVelocity, SMASH_FORCE_FACTOR);
 
-        this._rectangle.translate(this._horizontalVelocity, this._verticalVelocity);
-
-        if (this._rectangle.getMaxX() >= this._table.getWidth() || this._rectangle.getX() < 0)
-        {
-            this.bounceHorizontal();
-        }
+        this.clamp();
+    }
 
-        if (this._rectangle.getMaxY() >= this._table.getHeight())
-        {
-            this._table.terminate();
-        }
+    final void storePosition()
+    {
+        this._previousHorizontalPosition = this._horizontalPosition;
+        this._previousVerticalPosition = this._verticalPosition;
+    }
 
-        if (this._rectangle.getMinY() <= 0 || this._rectangle.getMaxY() >= this._table.getHeight())
-        {
-            this.bounceVertical();
-        }
+    /** {@inheritDoc} */
+    @Override
+    public final void update()
+    {
     }
 }
\ No newline at end of file
@@ -2,9 +2,11 @@ package breakout;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.Rectangle;
 
+import pong.AxisAlignedBoxes;
+import pong.DrawCommandBuffer;
 import pong.Entity;
+import pong.FixedPoint;
 
 /**
  * Represents a brick. This class defines the Prototype Design Pattern.
@@ -15,12 +17,21 @@ public class Brick implements Cloneable, Entity
 {
     private Color _color;
     private int _row;
-    private Rectangle _rectangle;
-    private Table _table;
+    private int _column;
+    private int _horizontalPosition;
+    private int _verticalPosition;
+    private final int _width;
+    private final int _height;
 
     private Brick(int width, int height)
     {
-        this._rectangle = new Rectangle(0, 0, width, height);
+        this._width = width;
+        this._height = height;
+    }
+
+    final void capture(DrawCommandBuffer commands)
+    {
+        commands.fill(this._horizontalPosition, this._verticalPosition, this._width, this._height, this._color);
     }
 
     /** {@inheritDoc} */
@@ -41,19 +52,21 @@ public class Brick implements Cloneable, Entity
      * Creates and returns a copy of this object.
      *
      * @param row                The row of the clone.
+     * @param column             The column of the clone.
      * @param color              The color of the clone.
      * @param horizontalPosition The horizontal position of the clone.
      * @param verticalPosition   The vertical position of the clone.
      * @return The clone.
      */
-    public final Brick clone(int row, Color color, int horizontalPosition, int verticalPosition)
+    public final Brick clone(int row, int column, Color color, int horizontalPosition, int verticalPosition)
     {
         final Brick result = this.clone();
 
         result._row = row;
+        result._column = column;
         result._color = color;
-        result._rectangle = new Rectangle(horizontalPosition, verticalPosition, result._rectangle.width,
-                result._rectangle.height);
+        result._horizontalPosition = horizontalPosition;
+        result._verticalPosition = verticalPosition;
 
         return result;
     }
@@ -63,7 +76,7 @@ public class Brick implements Cloneable, Entity
     public void draw(Graphics2D graphics2D)
     {
         graphics2D.setColor(this._color);
-        graphics2D.fill(this._rectangle);
+        graphics2D.fillRect(this._horizontalPosition, this._verticalPosition, this._width, this._height);
     }
 
     /**
@@ -76,6 +89,16 @@ public class Brick implements Cloneable, Entity
         return this._color;
     }
 
+    /**
+     * Gets the column of the brick.
+     *
+     * @return The column.
+     */
+    public final int getColumn()
+    {
+        return this._column;
+    }
+
     /**
      * Gets the height of the brick.
      *
@@ -83,7 +106,7 @@ public class Brick implements Cloneable, Entity
      */
     public final int getHeight()
     {
-        return this._rectangle.height;
+        return this._height;
     }
 
     /**
@@ -93,7 +116,7 @@ public class Brick implements Cloneable, Entity
      */
     public final int getHorizontalPosition()
     {
-        return this._rectangle.x;
+        return this._horizontalPosition;
     }
 
     /**
@@ -113,7 +136,7 @@ public class Brick implements Cloneable, Entity
      */
     public final int getVerticalPosition()
     {
-        return this._rectangle.y;
+        return this._verticalPosition;
     }
 
     /**
@@ -123,44 +146,31 @@ public class Brick implements Cloneable, Entity
      */
     public final int getWidth()
     {
-        return this._rectangle.width;
+        return this._width;
     }
 
-    final void hit(Inflatable inflatable, Rectangle rectangle, boolean destroy)
+    final boolean intersects(int horizontalPosition, int verticalPosition, int width, int height)
     {
-        if (this._rectangle.intersects(rectangle))
-        {
-            if (this.isHorizontal(rectangle, inflatable.getHorizontalVelocity(), inflatable.getVerticalVelocity()))
-            {
-                inflatable.bounceHorizontal();
-            }
-            else
-            {
-                inflatable.bounceVertical();
-            }
-
-            if (destroy)
-            {
-                this._table.destroy(this);
-            }
-        }
+        return AxisAlignedBoxes.intersects(horizontalPosition, verticalPosition, width, height,
+                this._horizontalPosition, this._verticalPosition, this._width, this._height);
     }
 
-    private final boolean isHorizontal(Rectangle projectile, int horizontalVelocity, int verticalVelocity)
+    final boolean isHorizontal(int horizontalPosition, int verticalPosition, int width, int height,
+            int horizontalVelocity, int verticalVelocity)
     {
-        final int previousHorizontalPosition = (int)projectile.getX() - horizontalVelocity;
-        final int previousYPos = (int)projectile.getY() - verticalVelocity;
-        final int height = (int)projectile.getHeight();
-        final int width = (int)projectile.getWidth();
+        final int previousHorizontalPosition = horizontalPosition - horizontalVelocity;
+        final int previousVerticalPosition = verticalPosition - verticalVelocity;
+        final int top = this._verticalPosition;
+        final int bottom = top + this._height;
 
-        if (previousYPos + height <= this._rectangle.getY() && projectile.getMaxY() >= this._rectangle.getY())
+        if (previousVerticalPosition + height <= top && verticalPosition + height >= top)
         {
             return false;
         }
-        if (previousHorizontalPosition + width <= this._rectangle.getX()
-                && projectile.getX() + width >= this._rectangle.getX()
-                || previousYPos < this._rectangle.getY() + this._rectangle.getHeight()
-                || projectile.getY() > this._rectangle.getY() + this._rectangle.getHeight())
+        if (previousHorizontalPosition + width <= this._horizontalPosition
+                && horizontalPosition + width >= this._horizontalPosition
+                || previousVerticalPosition < bottom
+                || verticalPosition > bottom)
         {
             return true;
         }
@@ -173,17 +183,24 @@ public class Brick implements Cloneable, Entity
     {
     }
 
-    final void setTable(Table value)
-    {
-        this._table = value;
-    }
-
     /** {@inheritDoc} */
     @Override
     public void update()
     {
     }
 
+    final void sweep(Impact impact, int horizontalPosition, int verticalPosition, int width, int height,
+            int horizontalDisplacement, int verticalDisplacement)
+    {
+        if (impact.test(horizontalPosition, verticalPosition, width, height, horizontalDisplacement,
+                verticalDisplacement, FixedPoint.fromInt(this._horizontalPosition),
+                FixedPoint.fromInt(this._verticalPosition), FixedPoint.fromInt(this._width),
+                FixedPoint.fromInt(this._height)))
+        {
+            impact.setBrick(this);
+        }
+    }
+
     /**
      * Creates a new prototypical instance of the {@link Brick} class.
      *
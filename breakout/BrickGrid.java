@@ -0,0 +1,288 @@
+package breakout;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import pong.DrawCommandBuffer;
+import pong.FixedPoint;
+import pong.application.windows.DirtyRegion;
+
+/**
+ * Represents a uniform grid of bricks. Each cell of the grid holds at most one
+ * brick, so collision queries only visit the cells that a body overlaps. Even
+ * on the 10-column standard table, a query costs less than testing every
+ * brick, so the grid has no separate path for small boards. A grid can be
+ * switched to a linear scan of every cell, which finds the same collisions,
+ * so that the two can be measured against each other.
+ * <p>
+ * Bricks do not move, so the grid is drawn once into a cached, opaque layer
+ * the first time it is drawn. The layer is filled with the background color of
+ * the graphics, so the grid must be drawn before anything that overlaps it.
+ * Removing a brick clears only its rectangle from the layer, and each frame
+ * copies the whole layer at once.
+ *
+ * @author Ishan Pranav
+ */
+final class BrickGrid
+{
+    static final int HORIZONTAL = 1;
+    static final int VERTICAL = 2;
+
+    private final Brick[] _bricks;
+    private final int _rows;
+    private final int _columns;
+    private final int _horizontalPosition;
+    private final int _verticalPosition;
+    private final int _cellWidth;
+    private final int _cellHeight;
+
+    private boolean _linear;
+    private BufferedImage _layer;
+    private Graphics2D _layerGraphics;
+    private int _damageLeft = Integer.MAX_VALUE;
+    private int _damageTop = Integer.MAX_VALUE;
+    private int _damageRight = Integer.MIN_VALUE;
+    private int _damageBottom = Integer.MIN_VALUE;
+
+    BrickGrid(int rows, int columns, int horizontalPosition, int verticalPosition, int cellWidth, int cellHeight)
+    {
+        this._bricks = new Brick[rows * columns];
+        this._rows = rows;
+        this._columns = columns;
+        this._horizontalPosition = horizontalPosition;
+        this._verticalPosition = verticalPosition;
+        this._cellWidth = cellWidth;
+        this._cellHeight = cellHeight;
+    }
+
+    final int bounce(int horizontalPosition, int verticalPosition, int width, int height, int horizontalVelocity,
+            int verticalVelocity)
+    {
+        final int lastRow = this.getLastRow(verticalPosition, height);
+        final int firstColumn = this.getFirstColumn(horizontalPosition);
+        final int lastColumn = this.getLastColumn(horizontalPosition, width);
+        int result = 0;
+
+        for (int row = this.getFirstRow(verticalPosition); row <= lastRow; row++)
+        {
+            for (int column = firstColumn; column <= lastColumn; column++)
+            {
+                final Brick brick = this._bricks[row * this._columns + column];
+
+                if (brick != null && brick.intersects(horizontalPosition, verticalPosition, width, height))
+                {
+                    if (brick.isHorizontal(horizontalPosition, verticalPosition, width, height, horizontalVelocity,
+                            verticalVelocity))
+                    {
+                        horizontalVelocity = -horizontalVelocity;
+                        result ^= HORIZONTAL;
+                    }
+                    else
+                    {
+                        verticalVelocity = -verticalVelocity;
+                        result ^= VERTICAL;
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    final void capture(DrawCommandBuffer commands)
+    {
+        for (final Brick brick : this._bricks)
+        {
+            if (brick != null)
+            {
+                brick.capture(commands);
+            }
+        }
+    }
+
+    final void damage(DirtyRegion region)
+    {
+        if (this._damageLeft < this._damageRight)
+        {
+            region.add(this._damageLeft, this._damageTop, this._damageRight - this._damageLeft,
+                    this._damageBottom - this._damageTop);
+
+            this._damageLeft = Integer.MAX_VALUE;
+            this._damageTop = Integer.MAX_VALUE;
+            this._damageRight = Integer.MIN_VALUE;
+            this._damageBottom = Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Releases the layer that caches the drawn bricks. The layer is rendered
+     * again the next time the grid is drawn.
+     */
+    final void dispose()
+    {
+        if (this._layerGraphics != null)
+        {
+            this._layerGraphics.dispose();
+
+            this._layerGraphics = null;
+        }
+
+        this._layer = null;
+    }
+
+    final void draw(Graphics2D graphics2D)
+    {
+        if (this._layer == null)
+        {
+            this.render(graphics2D);
+        }
+
+        graphics2D.drawImage(this._layer, this._horizontalPosition, this._verticalPosition, null);
+    }
+
+    final Brick get(int index)
+    {
+        return this._bricks[index];
+    }
+
+    private int getFirstColumn(int horizontalPosition)
+    {
+        if (this._linear)
+        {
+            return 0;
+        }
+
+        return Math.max(0, Math.floorDiv(horizontalPosition - this._horizontalPosition, this._cellWidth));
+    }
+
+    private int getFirstRow(int verticalPosition)
+    {
+        if (this._linear)
+        {
+            return 0;
+        }
+
+        return Math.max(0, Math.floorDiv(verticalPosition - this._verticalPosition, this._cellHeight));
+    }
+
+    private int getLastColumn(int horizontalPosition, int width)
+    {
+        if (this._linear)
+        {
+            return this._columns - 1;
+        }
+
+        return Math.min(this._columns - 1,
+                Math.floorDiv(horizontalPosition + width - 1 - this._horizontalPosition, this._cellWidth));
+    }
+
+    private int getLastRow(int verticalPosition, int height)
+    {
+        if (this._linear)
+        {
+            return this._rows - 1;
+        }
+
+        return Math.min(this._rows - 1,
+                Math.floorDiv(verticalPosition + height - 1 - this._verticalPosition, this._cellHeight));
+    }
+
+    final int getLength()
+    {
+        return this._bricks.length;
+    }
+
+    final boolean remove(Brick brick)
+    {
+        final int index = brick.getRow() * this._columns + brick.getColumn();
+
+        if (this._bricks[index] != brick)
+        {
+            return false;
+        }
+
+        this._bricks[index] = null;
+
+        final int horizontalPosition = brick.getHorizontalPosition();
+        final int verticalPosition = brick.getVerticalPosition();
+
+        if (this._layerGraphics != null)
+        {
+            this._layerGraphics.fillRect(horizontalPosition, verticalPosition, brick.getWidth(), brick.getHeight());
+        }
+
+        this._damageLeft = Math.min(this._damageLeft, horizontalPosition);
+        this._damageTop = Math.min(this._damageTop, verticalPosition);
+        this._damageRight = Math.max(this._damageRight, horizontalPosition + brick.getWidth());
+        this._damageBottom = Math.max(this._damageBottom, verticalPosition + brick.getHeight());
+
+        return true;
+    }
+
+    private void render(Graphics2D graphics2D)
+    {
+        final int width = this._columns * this._cellWidth;
+        final int height = this._rows * this._cellHeight;
+
+        this.dispose();
+
+        this._layer = graphics2D.getDeviceConfiguration().createCompatibleImage(width, height);
+        this._layerGraphics = this._layer.createGraphics();
+
+        this._layerGraphics.setBackground(graphics2D.getBackground());
+        this._layerGraphics.clearRect(0, 0, width, height);
+        this._layerGraphics.translate(-this._horizontalPosition, -this._verticalPosition);
+
+        for (final Brick brick : this._bricks)
+        {
+            if (brick != null)
+            {
+                brick.draw(this._layerGraphics);
+            }
+        }
+
+        this._layerGraphics.setColor(graphics2D.getBackground());
+    }
+
+    /**
+     * Sweeps a moving rectangle against the bricks that its path overlaps. The
+     * rectangle and its displacement are 16.16 fixed-point numbers.
+     */
+    final void sweep(Impact impact, int horizontalPosition, int verticalPosition, int width, int height,
+            int horizontalDisplacement, int verticalDisplacement)
+    {
+        final int left = Math.min(horizontalPosition, horizontalPosition + horizontalDisplacement);
+        final int top = Math.min(verticalPosition, verticalPosition + verticalDisplacement);
+        final int right = left + width + Math.abs(horizontalDisplacement);
+        final int bottom = top + height + Math.abs(verticalDisplacement);
+        final int firstColumn = this.getFirstColumn(FixedPoint.toInt(left));
+        final int lastColumn = this.getLastColumn(FixedPoint.toInt(left),
+                FixedPoint.toInt(right + FixedPoint.ONE - 1) - FixedPoint.toInt(left));
+        final int lastRow = this.getLastRow(FixedPoint.toInt(top),
+                FixedPoint.toInt(bottom + FixedPoint.ONE - 1) - FixedPoint.toInt(top));
+
+        for (int row = this.getFirstRow(FixedPoint.toInt(top)); row <= lastRow; row++)
+        {
+            for (int column = firstColumn; column <= lastColumn; column++)
+            {
+                final Brick brick = this._bricks[row * this._columns + column];
+
+                if (brick != null)
+                {
+                    brick.sweep(impact, horizontalPosition, verticalPosition, width, height, horizontalDisplacement,
+                            verticalDisplacement);
+                }
+            }
+        }
+    }
+
+    final void set(Brick value)
+    {
+        this._bricks[value.getRow() * this._columns + value.getColumn()] = value;
+    }
+
+    final void setLinear(boolean value)
+    {
+        this._linear = value;
+    }
+}
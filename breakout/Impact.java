@@ -0,0 +1,255 @@
+package breakout;
+
+import pong.AxisAlignedBoxes;
+import pong.FixedPoint;
+
+/**
+ * Represents the earliest impact of a rectangle moving along a displacement
+ * against a set of stationary rectangles. Each obstacle is tested with a swept
+ * axis-aligned bounding box test, so a fast rectangle cannot pass through a
+ * thin obstacle between ticks. Rectangles that only touch do not intersect,
+ * and obstacles that the rectangle already overlaps are ignored.
+ *
+ * @author Ishan Pranav
+ */
+final class Impact
+{
+    /**
+     * Specifies that a brick was hit.
+     */
+    static final int BRICK = 1;
+
+    /**
+     * Specifies that the paddle was hit.
+     */
+    static final int PADDLE = 2;
+
+    /**
+     * Specifies that a side wall or the ceiling was hit.
+     */
+    static final int WALL = 3;
+
+    /**
+     * Specifies that the floor was hit.
+     */
+    static final int FLOOR = 4;
+
+    private int _time;
+    private long _entry;
+    private long _speed;
+    private int _axes;
+    private int _obstacle;
+    private int _horizontalPosition;
+    private int _verticalPosition;
+    private Brick _brick;
+
+    Impact()
+    {
+    }
+
+    final void clear()
+    {
+        this._time = Integer.MAX_VALUE;
+        this._entry = 0;
+        this._speed = 0;
+        this._axes = 0;
+        this._obstacle = 0;
+        this._brick = null;
+    }
+
+    /**
+     * Gets the axes of the faces that were hit, as a combination of
+     * {@link BrickGrid#HORIZONTAL} and {@link BrickGrid#VERTICAL}, or zero if
+     * nothing was hit.
+     *
+     * @return The axes.
+     */
+    final int getAxes()
+    {
+        return this._axes;
+    }
+
+    final Brick getBrick()
+    {
+        return this._brick;
+    }
+
+    final int getHorizontalPosition()
+    {
+        return this._horizontalPosition;
+    }
+
+    /**
+     * Gets the kind of obstacle that was hit: {@link #BRICK}, {@link #PADDLE},
+     * {@link #WALL} or {@link #FLOOR}, or zero if nothing was hit.
+     *
+     * @return The kind of obstacle.
+     */
+    final int getObstacle()
+    {
+        return this._obstacle;
+    }
+
+    /**
+     * Gets the fraction of the displacement after which the impact occurs.
+     *
+     * @return The time of impact, from zero to one, as a 16.16 fixed-point
+     *         number.
+     */
+    final int getTime()
+    {
+        return this._time;
+    }
+
+    final int getVerticalPosition()
+    {
+        return this._verticalPosition;
+    }
+
+    final void setBrick(Brick value)
+    {
+        this._obstacle = BRICK;
+        this._brick = value;
+    }
+
+    final void setObstacle(int value)
+    {
+        this._obstacle = value;
+    }
+
+    /**
+     * Tests a moving rectangle against a stationary obstacle and records the
+     * impact if it is earlier than the impact recorded so far. The position of
+     * the moving rectangle at the time of impact is snapped to the face that
+     * was hit. The times of entry and exit along each axis are compared as
+     * exact fractions, so two faces hit at nearly the same time are told apart
+     * consistently; the recorded time is their 16.16 fixed-point quotient.
+     *
+     * @return {@code true} if the impact was recorded; otherwise, {@code false}.
+     */
+    final boolean test(int horizontalPosition, int verticalPosition, int width, int height,
+            int horizontalDisplacement, int verticalDisplacement, int left, int top, int obstacleWidth,
+            int obstacleHeight)
+    {
+        final int right = left + obstacleWidth;
+        final int bottom = top + obstacleHeight;
+        final long horizontalEntry;
+        final long horizontalExit;
+        final long horizontalSpeed;
+        final long verticalEntry;
+        final long verticalExit;
+        final long verticalSpeed;
+
+        // Each time is a numerator over the positive speed along its axis. An
+        // axis without motion overlaps the obstacle for the whole displacement
+        // or not at all.
+
+        if (horizontalDisplacement > 0)
+        {
+            horizontalEntry = left - horizontalPosition - width;
+            horizontalExit = right - horizontalPosition;
+            horizontalSpeed = horizontalDisplacement;
+        }
+        else if (horizontalDisplacement < 0)
+        {
+            horizontalEntry = horizontalPosition - right;
+            horizontalExit = horizontalPosition + width - left;
+            horizontalSpeed = -horizontalDisplacement;
+        }
+        else if (AxisAlignedBoxes.getOverlap(horizontalPosition, width, left, obstacleWidth) > 0)
+        {
+            horizontalEntry = -1;
+            horizontalExit = 2;
+            horizontalSpeed = 1;
+        }
+        else
+        {
+            return false;
+        }
+
+        if (verticalDisplacement > 0)
+        {
+            verticalEntry = top - verticalPosition - height;
+            verticalExit = bottom - verticalPosition;
+            verticalSpeed = verticalDisplacement;
+        }
+        else if (verticalDisplacement < 0)
+        {
+            verticalEntry = verticalPosition - bottom;
+            verticalExit = verticalPosition + height - top;
+            verticalSpeed = -verticalDisplacement;
+        }
+        else if (AxisAlignedBoxes.getOverlap(verticalPosition, height, top, obstacleHeight) > 0)
+        {
+            verticalEntry = -1;
+            verticalExit = 2;
+            verticalSpeed = 1;
+        }
+        else
+        {
+            return false;
+        }
+
+        final long horizontal = horizontalEntry * verticalSpeed;
+        final long vertical = verticalEntry * horizontalSpeed;
+        final long entry;
+        final long speed;
+
+        if (horizontal >= vertical)
+        {
+            entry = horizontalEntry;
+            speed = horizontalSpeed;
+        }
+        else
+        {
+            entry = verticalEntry;
+            speed = verticalSpeed;
+        }
+
+        if (entry < 0 || entry > speed || entry * horizontalSpeed >= horizontalExit * speed
+                || entry * verticalSpeed >= verticalExit * speed
+                || this._speed != 0 && entry * this._speed >= this._entry * speed)
+        {
+            return false;
+        }
+
+        this._entry = entry;
+        this._speed = speed;
+        this._time = FixedPoint.divide((int)entry, (int)speed);
+        this._axes = 0;
+        this._horizontalPosition = horizontalPosition + (int)(horizontalDisplacement * entry / speed);
+        this._verticalPosition = verticalPosition + (int)(verticalDisplacement * entry / speed);
+        this._obstacle = 0;
+        this._brick = null;
+
+        if (horizontal >= vertical)
+        {
+            this._axes |= BrickGrid.HORIZONTAL;
+
+            if (horizontalDisplacement > 0)
+            {
+                this._horizontalPosition = left - width;
+            }
+            else
+            {
+                this._horizontalPosition = right;
+            }
+        }
+
+        if (vertical >= horizontal)
+        {
+            this._axes |= BrickGrid.VERTICAL;
+
+            if (verticalDisplacement > 0)
+            {
+                this._verticalPosition = top - height;
+            }
+            else
+            {
+                this._verticalPosition = bottom;
+            }
+        }
+
+        return true;
+    }
+}
@@ -20,14 +20,16 @@ public interface Inflatable
     /**
      * Gets the horizontal velocity of the inflatable object.
      *
-     * @return The horizontal velocity of the inflatable object.
+     * @return The horizontal velocity of the inflatable object, in pixels per tick
+     *         at {@link Table#TICKS_PER_SECOND} as a 16.16 fixed-point number.
      */
     int getHorizontalVelocity();
 
     /**
      * Gets the vertical velocity of the inflatable object.
      *
-     * @return The vertical velocity of the inflatable object.
+     * @return The vertical velocity of the inflatable object, in pixels per tick
+     *         at {@link Table#TICKS_PER_SECOND} as a 16.16 fixed-point number.
      */
     int getVerticalVelocity();
 }
@@ -2,19 +2,24 @@ package breakout;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.Rectangle;
 
+import pong.AxisAlignedBoxes;
 import pong.Direction;
+import pong.DrawCommandBuffer;
 import pong.Entity;
+import pong.FixedPoint;
+import pong.application.windows.DirtyRegion;
 
 /**
- * Represents a table tennis paddle.
+ * Represents a table tennis paddle. The position and speed of the paddle are
+ * 16.16 fixed-point numbers, so the paddle covers the same distance per second
+ * at every tick rate; it is drawn at whole pixels.
  *
  * @author Ishan Pranav
  */
 public class Paddle implements Entity
 {
-    private final Rectangle _rectangle;
+    private final int _height;
     private final int _speed;
     private final int _initialHorizontalPosition;
     private final int _initialVerticalPosition;
@@ -22,6 +27,10 @@ public class Paddle implements Entity
     private Color _color = Color.WHITE;
     private Table _table;
     private Direction _direction;
+    private int _horizontalPosition;
+    private int _verticalPosition;
+    private int _previousHorizontalPosition;
+    private int _width;
 
     /**
      * Initializes a new instance of the {@link Paddle} class.
@@ -30,14 +39,31 @@ public class Paddle implements Entity
      * @param verticalPosition   The starting vertical position of the paddle.
      * @param width              The width of the paddle.
      * @param height             The height of the paddle.
-     * @param speed              The speed of the paddle.
+     * @param speed              The speed of the paddle, in pixels per tick at
+     *                           {@link Table#TICKS_PER_SECOND}.
      */
     public Paddle(int horizontalPosition, int verticalPosition, int width, int height, int speed)
     {
-        this._rectangle = new Rectangle(horizontalPosition, verticalPosition, width, height);
-        this._speed = speed;
-        this._initialHorizontalPosition = horizontalPosition;
-        this._initialVerticalPosition = verticalPosition;
+        this._horizontalPosition = FixedPoint.fromInt(horizontalPosition);
+        this._verticalPosition = FixedPoint.fromInt(verticalPosition);
+        this._previousHorizontalPosition = this._horizontalPosition;
+        this._width = width;
+        this._height = height;
+        this._speed = FixedPoint.fromInt(speed);
+        this._initialHorizontalPosition = this._horizontalPosition;
+        this._initialVerticalPosition = this._verticalPosition;
+    }
+
+    final void capture(DrawCommandBuffer commands)
+    {
+        commands.fill(this.getDrawnHorizontalPosition(), FixedPoint.toInt(this._verticalPosition), this._width,
+                this._height, this._color);
+    }
+
+    final void damage(DirtyRegion region)
+    {
+        region.add(this.getDrawnHorizontalPosition(), FixedPoint.toInt(this._verticalPosition), this._width,
+                this._height);
     }
 
     /** {@inheritDoc} */
@@ -45,7 +71,8 @@ public class Paddle implements Entity
     public final void draw(Graphics2D graphics2D)
     {
         graphics2D.setColor(this._color);
-        graphics2D.fill(this._rectangle);
+        graphics2D.fillRect(this.getDrawnHorizontalPosition(), FixedPoint.toInt(this._verticalPosition), this._width,
+                this._height);
     }
 
     /**
@@ -55,19 +82,54 @@ public class Paddle implements Entity
      */
     public final void follow(Ball ball)
     {
-        final int x = (int)(ball.getHorizontalPosition() - this._rectangle.getWidth() / 2);
+        final int x = ball.getHorizontalPosition() - FixedPoint.fromInt(this._width) / 2;
 
-        this._rectangle.setLocation(x, this._rectangle.y);
+        this._horizontalPosition = x;
+        this._direction = Direction.fromDistance(x, this._verticalPosition);
+    }
 
-        this._direction = Direction.fromDistance(x, this._rectangle.getY());
+    final Direction getDirection()
+    {
+        return this._direction;
     }
 
-    final void hit(Pill pill, Rectangle rectangle)
+    private int getDrawnHorizontalPosition()
     {
-        if (this._rectangle.intersects(rectangle))
+        return FixedPoint.toInt(this._table.interpolate(this._previousHorizontalPosition, this._horizontalPosition));
+    }
+
+    /**
+     * Gets the fraction of the current tick after which a falling pill first
+     * overlaps the paddle. The pill is given at its position after the tick,
+     * and the pill and its displacement over the tick are 16.16 fixed-point
+     * numbers.
+     *
+     * @return The fraction of the tick as a 16.16 fixed-point number, or -1 if
+     *         the pill does not overlap the paddle during the tick.
+     */
+    final int getCollectionTime(int horizontalPosition, int verticalPosition, int width, int height,
+            int verticalDisplacement)
+    {
+        final int paddleHeight = FixedPoint.fromInt(this._height);
+
+        if (AxisAlignedBoxes.getOverlap(horizontalPosition, width, this._horizontalPosition,
+                FixedPoint.fromInt(this._width)) == 0)
         {
-            pill.terminate();
+            return -1;
         }
+
+        final int startVerticalPosition = verticalPosition - verticalDisplacement;
+        final int entry = AxisAlignedBoxes.getEntryTime(startVerticalPosition, height, verticalDisplacement,
+                this._verticalPosition, paddleHeight);
+        final int exit = AxisAlignedBoxes.getExitTime(startVerticalPosition, height, verticalDisplacement,
+                this._verticalPosition, paddleHeight);
+
+        if (entry >= FixedPoint.ONE || exit <= 0 || entry >= exit)
+        {
+            return -1;
+        }
+
+        return Math.max(0, entry);
     }
 
     /**
@@ -75,9 +137,9 @@ public class Paddle implements Entity
      */
     public final void moveLeft()
     {
-        if (this._rectangle.getX() >= 0)
+        if (this._horizontalPosition >= 0)
         {
-            this._rectangle.translate(-this._speed, 0);
+            this._horizontalPosition -= this._table.scaleVelocity(this._speed);
         }
 
         this._direction = Direction.NEGATIVE;
@@ -88,9 +150,9 @@ public class Paddle implements Entity
      */
     public final void moveRight()
     {
-        if (this._rectangle.getX() <= this._table.getWidth() - this._rectangle.getWidth())
+        if (this._horizontalPosition <= FixedPoint.fromInt(this._table.getWidth() - this._width))
         {
-            this._rectangle.translate(this._speed, 0);
+            this._horizontalPosition += this._table.scaleVelocity(this._speed);
         }
 
         this._direction = Direction.POSITIVE;
@@ -100,7 +162,9 @@ public class Paddle implements Entity
     @Override
     public final void reset()
     {
-        this._rectangle.setLocation(this._initialHorizontalPosition, this._initialVerticalPosition);
+        this._horizontalPosition = this._initialHorizontalPosition;
+        this._verticalPosition = this._initialVerticalPosition;
+        this._previousHorizontalPosition = this._initialHorizontalPosition;
     }
 
     /**
@@ -110,7 +174,7 @@ public class Paddle implements Entity
      */
     public final void scaleWidth(double factor)
     {
-        this._rectangle.width *= factor;
+        this._width *= factor;
     }
 
     /**
@@ -128,20 +192,36 @@ public class Paddle implements Entity
         this._table = value;
     }
 
+    final void storePosition()
+    {
+        this._previousHorizontalPosition = this._horizontalPosition;
+    }
+
+    final void sweep(Impact impact, int horizontalPosition, int verticalPosition, int width, int height,
+            int horizontalDisplacement, int verticalDisplacement)
+    {
+        if (impact.test(horizontalPosition, verticalPosition, width, height, horizontalDisplacement,
+                verticalDisplacement, this._horizontalPosition, this._verticalPosition,
+                FixedPoint.fromInt(this._width), FixedPoint.fromInt(this._height)))
+        {
+            impact.setObstacle(Impact.PADDLE);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public final void update()
     {
-        if (this._rectangle.getMinY() < 0)
+        final int height = FixedPoint.fromInt(this._height);
+        final int maxVerticalPosition = FixedPoint.fromInt((int)this._table.getHeight()) - height;
+
+        if (this._verticalPosition < 0)
         {
-            this._rectangle.setLocation((int)this._rectangle.getX(), 0);
+            this._verticalPosition = 0;
         }
-        else if (this._rectangle.getMaxY() > this._table.getHeight())
+        else if (this._verticalPosition > maxVerticalPosition)
         {
-            this._rectangle.setLocation((int)this._rectangle.getX(),
-                    (int)(this._table.getHeight() - this._rectangle.getHeight()));
+            this._verticalPosition = maxVerticalPosition;
         }
-
-        this._table.getBall().hit(this._rectangle, this._direction);
     }
 }
\ No newline at end of file
@@ -0,0 +1,320 @@
+package breakout;
+
+import java.awt.Color;
+
+import pong.DrawCommandBuffer;
+import pong.FixedPoint;
+import pong.application.windows.DirtyRegion;
+
+/**
+ * Represents a system of physical particles. The state of each particle is
+ * stored in parallel primitive arrays that form a ring buffer ordered from the
+ * oldest particle to the newest. The buffer starts small and grows with the
+ * number of live particles up to a maximum capacity; once it is full, emitting
+ * a particle evicts the oldest one. Clearing the particles keeps the buffer, so
+ * it grows only to the peak number of live particles; only lowering the
+ * maximum capacity shrinks it. Updating, drawing and expiring particles
+ * only visit live particles and do not allocate. Positions and velocities are
+ * 16.16 fixed-point numbers; velocities are given per tick at
+ * {@link Table#TICKS_PER_SECOND} and scaled on every step.
+ * <p>
+ * Particles are decorative and do not affect the state of the game. Their
+ * bounces off bricks are resolved once per tick, so their paths only
+ * approximate the same trajectories at other tick rates.
+ *
+ * @author Ishan Pranav
+ */
+final class ParticleSystem
+{
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int _size;
+
+    private int[] _horizontalPositions = new int[INITIAL_CAPACITY];
+    private int[] _verticalPositions = new int[INITIAL_CAPACITY];
+    private int[] _previousHorizontalPositions = new int[INITIAL_CAPACITY];
+    private int[] _previousVerticalPositions = new int[INITIAL_CAPACITY];
+    private int[] _horizontalVelocities = new int[INITIAL_CAPACITY];
+    private int[] _verticalVelocities = new int[INITIAL_CAPACITY];
+    private int[] _lifetimes = new int[INITIAL_CAPACITY];
+    private int[] _colors = new int[INITIAL_CAPACITY];
+    private Color[] _palette = new Color[0];
+    private int[] _paletteIndices = new int[0];
+    private Table _table;
+    private int _maximumCapacity;
+    private int _head;
+    private int _count;
+
+    ParticleSystem(int maximumCapacity, int size)
+    {
+        this._maximumCapacity = maximumCapacity;
+        this._size = size;
+    }
+
+    final void capture(DrawCommandBuffer commands)
+    {
+        for (int i = 0; i < this._palette.length; i++)
+        {
+            this._paletteIndices[i] = commands.indexOf(this._palette[i]);
+        }
+
+        int i = this._head;
+
+        for (int k = 0; k < this._count; k++)
+        {
+            commands.fill(this.getDrawnHorizontalPosition(i), this.getDrawnVerticalPosition(i), this._size,
+                    this._size, this._paletteIndices[this._colors[i]]);
+
+            i = this.next(i);
+        }
+    }
+
+    final void clear()
+    {
+        this._head = 0;
+        this._count = 0;
+    }
+
+    private void copyLive(int[] source, int[] destination)
+    {
+        final int first = Math.min(this._count, source.length - this._head);
+
+        System.arraycopy(source, this._head, destination, this._head, first);
+        System.arraycopy(source, 0, destination, 0, this._count - first);
+    }
+
+    final void damage(DirtyRegion region)
+    {
+        int i = this._head;
+
+        for (int k = 0; k < this._count; k++)
+        {
+            region.add(this.getDrawnHorizontalPosition(i), this.getDrawnVerticalPosition(i), this._size,
+                    this._size);
+
+            i = this.next(i);
+        }
+    }
+
+    final void emit(int horizontalPosition, int verticalPosition, int color)
+    {
+        if (this._maximumCapacity == 0)
+        {
+            return;
+        }
+
+        if (this._count == this._maximumCapacity)
+        {
+            this._head = this.next(this._head);
+            this._count--;
+        }
+        else if (this._count == this._lifetimes.length)
+        {
+            this.resize(Math.min(this._maximumCapacity, this._count * 2));
+        }
+
+        final Randomizer randomizer = this._table.getRandomizer();
+        final int time = FixedPoint.ONE - this._table.getTime();
+        int i = this._head + this._count;
+
+        if (i >= this._lifetimes.length)
+        {
+            i -= this._lifetimes.length;
+        }
+
+        this._previousHorizontalPositions[i] = FixedPoint.fromInt(horizontalPosition);
+        this._previousVerticalPositions[i] = FixedPoint.fromInt(verticalPosition);
+        this._horizontalVelocities[i] = randomizer.createVelocity();
+        this._verticalVelocities[i] = randomizer.createVelocity();
+        this._horizontalPositions[i] = this._previousHorizontalPositions[i]
+                + FixedPoint.multiply(this._table.scaleVelocity(this._horizontalVelocities[i]), time);
+        this._verticalPositions[i] = this._previousVerticalPositions[i]
+                + FixedPoint.multiply(this._table.scaleVelocity(this._verticalVelocities[i]), time);
+        this._lifetimes[i] = this._table.scaleDuration(randomizer.createLifetime());
+        this._colors[i] = color;
+        this._count++;
+    }
+
+    final int getCapacity()
+    {
+        return this._maximumCapacity;
+    }
+
+    final int getCount()
+    {
+        return this._count;
+    }
+
+    private int getDrawnHorizontalPosition(int index)
+    {
+        return FixedPoint.toInt(
+                this._table.interpolate(this._previousHorizontalPositions[index], this._horizontalPositions[index]));
+    }
+
+    private int getDrawnVerticalPosition(int index)
+    {
+        return FixedPoint.toInt(
+                this._table.interpolate(this._previousVerticalPositions[index], this._verticalPositions[index]));
+    }
+
+    private int next(int index)
+    {
+        index++;
+
+        if (index == this._lifetimes.length)
+        {
+            return 0;
+        }
+
+        return index;
+    }
+
+    private void resize(int capacity)
+    {
+        final int count = Math.min(this._count, capacity);
+
+        this._head += this._count - count;
+
+        if (this._head >= this._lifetimes.length)
+        {
+            this._head -= this._lifetimes.length;
+        }
+
+        this._horizontalPositions = this.unroll(this._horizontalPositions, capacity, count);
+        this._verticalPositions = this.unroll(this._verticalPositions, capacity, count);
+        this._previousHorizontalPositions = this.unroll(this._previousHorizontalPositions, capacity, count);
+        this._previousVerticalPositions = this.unroll(this._previousVerticalPositions, capacity, count);
+        this._horizontalVelocities = this.unroll(this._horizontalVelocities, capacity, count);
+        this._verticalVelocities = this.unroll(this._verticalVelocities, capacity, count);
+        this._lifetimes = this.unroll(this._lifetimes, capacity, count);
+        this._colors = this.unroll(this._colors, capacity, count);
+        this._head = 0;
+        this._count = count;
+    }
+
+    final void setCapacity(int value)
+    {
+        if (value < 0)
+        {
+            throw new IllegalArgumentException("value");
+        }
+
+        this._maximumCapacity = value;
+
+        if (this._lifetimes.length > value)
+        {
+            this.resize(Math.max(value, 1));
+
+            this._count = Math.min(this._count, value);
+        }
+    }
+
+    final void setPalette(Color[] value)
+    {
+        this._palette = value;
+        this._paletteIndices = new int[value.length];
+    }
+
+    final void setTable(Table value)
+    {
+        this._table = value;
+    }
+
+    final void storePositions()
+    {
+        this.copyLive(this._horizontalPositions, this._previousHorizontalPositions);
+        this.copyLive(this._verticalPositions, this._previousVerticalPositions);
+    }
+
+    private int[] unroll(int[] source, int capacity, int count)
+    {
+        final int[] result = new int[capacity];
+        final int first = Math.min(count, source.length - this._head);
+
+        System.arraycopy(source, this._head, result, 0, first);
+        System.arraycopy(source, 0, result, first, count - first);
+
+        return result;
+    }
+
+    final void update(BrickGrid grid)
+    {
+        final int width = FixedPoint.fromInt(this._table.getWidth());
+        final int height = FixedPoint.fromInt((int)this._table.getHeight());
+        final int size = FixedPoint.fromInt(this._size);
+        int read = this._head;
+        int write = this._head;
+        int count = 0;
+
+        for (int k = 0; k < this._count; k++)
+        {
+            final int i = read;
+            final int lifetime = this._lifetimes[i] - 1;
+
+            read = this.next(read);
+
+            if (lifetime < 0)
+            {
+                continue;
+            }
+
+            final int startHorizontalPosition = this._horizontalPositions[i];
+            final int startVerticalPosition = this._verticalPositions[i];
+            int horizontalVelocity = this._horizontalVelocities[i];
+            int verticalVelocity = this._verticalVelocities[i];
+            int horizontalPosition = startHorizontalPosition + this._table.scaleVelocity(horizontalVelocity);
+            int verticalPosition = startVerticalPosition + this._table.scaleVelocity(verticalVelocity);
+
+            if (horizontalPosition < 0)
+            {
+                horizontalPosition = -horizontalPosition;
+                horizontalVelocity = -horizontalVelocity;
+            }
+            else if (horizontalPosition + size > width)
+            {
+                horizontalPosition = (width - size) * 2 - horizontalPosition;
+                horizontalVelocity = -horizontalVelocity;
+            }
+
+            if (verticalPosition < 0)
+            {
+                verticalPosition = -verticalPosition;
+                verticalVelocity = -verticalVelocity;
+            }
+            else if (verticalPosition + size > height)
+            {
+                verticalPosition = (height - size) * 2 - verticalPosition;
+                verticalVelocity = -verticalVelocity;
+            }
+
+            final int left = FixedPoint.toInt(horizontalPosition);
+            final int top = FixedPoint.toInt(verticalPosition);
+            final int bounces = grid.bounce(left, top, this._size, this._size,
+                    left - FixedPoint.toInt(startHorizontalPosition), top - FixedPoint.toInt(startVerticalPosition));
+
+            if ((bounces & BrickGrid.HORIZONTAL) != 0)
+            {
+                horizontalVelocity = -horizontalVelocity;
+            }
+
+            if ((bounces & BrickGrid.VERTICAL) != 0)
+            {
+                verticalVelocity = -verticalVelocity;
+            }
+
+            this._horizontalPositions[write] = horizontalPosition;
+            this._verticalPositions[write] = verticalPosition;
+            this._previousHorizontalPositions[write] = this._previousHorizontalPositions[i];
+            this._previousVerticalPositions[write] = this._previousVerticalPositions[i];
+            this._horizontalVelocities[write] = horizontalVelocity;
+            this._verticalVelocities[write] = verticalVelocity;
+            this._lifetimes[write] = lifetime;
+            this._colors[write] = this._colors[i];
+
+            write = this.next(write);
+            count++;
+        }
+
+        this._count = count;
+    }
+}
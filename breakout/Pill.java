@@ -2,29 +2,57 @@ package breakout;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.Rectangle;
 
 import breakout.abilities.Ability;
+import pong.DrawCommandBuffer;
 import pong.Entity;
+import pong.FixedPoint;
+import pong.application.windows.DirtyRegion;
 
 /**
- * Represents a pill that provides special abilities. This class defines the
- * Prototype Design Pattern.
+ * Represents a pill that provides special abilities. The pill falls straight
+ * down; its vertical position and speed are 16.16 fixed-point numbers. This
+ * class defines the Prototype Design Pattern.
  *
  * @author Ishan Pranav
  */
 public class Pill implements Cloneable, Entity, Terminable
 {
     private boolean _terminated;
-    private Rectangle _rectangle;
+    private int _horizontalPosition;
+    private int _verticalPosition;
+    private int _previousVerticalPosition;
+    private final int _width;
+    private final int _height;
     private final int _speed;
     private Ability _ability;
     private Table _table;
 
     private Pill(int width, int height, int speed)
     {
-        this._rectangle = new Rectangle(0, 0, width, height);
-        this._speed = speed;
+        this._width = width;
+        this._height = height;
+        this._speed = FixedPoint.fromInt(speed);
+    }
+
+    final void capture(DrawCommandBuffer commands)
+    {
+        if (!this._terminated)
+        {
+            final Color color;
+
+            if (this.isTerminated())
+            {
+                color = Color.WHITE;
+            }
+            else
+            {
+                color = this._ability.getColor();
+            }
+
+            commands.fill(this._horizontalPosition, this.getDrawnVerticalPosition(), this._width,
+                    this._height, color);
+        }
     }
 
     /** {@inheritDoc} */
@@ -54,12 +82,21 @@ public class Pill implements Cloneable, Entity, Terminable
         final Pill result = this.clone();
 
         result._ability = ability;
-        result._rectangle = new Rectangle(horizontalPosition, verticalPosition, result._rectangle.width,
-                result._rectangle.height);
+        result._horizontalPosition = horizontalPosition;
+        result._verticalPosition = FixedPoint.fromInt(verticalPosition);
+        result._previousVerticalPosition = result._verticalPosition;
 
         return result;
     }
 
+    final void damage(DirtyRegion region)
+    {
+        if (!this._terminated)
+        {
+            region.add(this._horizontalPosition, this.getDrawnVerticalPosition(), this._width, this._height);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void draw(Graphics2D graphics2D)
@@ -75,10 +112,16 @@ public class Pill implements Cloneable, Entity, Terminable
                 graphics2D.setColor(this._ability.getColor());
             }
 
-            graphics2D.fill(this._rectangle);
+            graphics2D.fillRect(this._horizontalPosition, this.getDrawnVerticalPosition(), this._width,
+                    this._height);
         }
     }
 
+    final void fall(int time)
+    {
+        this._verticalPosition += FixedPoint.multiply(this._table.scaleVelocity(this._speed), time);
+    }
+
     /**
      * Gets the ability associated with the pill.
      *
@@ -89,6 +132,11 @@ public class Pill implements Cloneable, Entity, Terminable
         return this._ability;
     }
 
+    private int getDrawnVerticalPosition()
+    {
+        return FixedPoint.toInt(this._table.interpolate(this._previousVerticalPosition, this._verticalPosition));
+    }
+
     /**
      * Gets the width of the pill.
      *
@@ -96,22 +144,35 @@ public class Pill implements Cloneable, Entity, Terminable
      */
     public final int getWidth()
     {
-        return this._rectangle.width;
+        return this._width;
     }
 
-    final void hit(Paddle paddle)
+    final int getCollectionTime(Paddle paddle)
     {
-        if (!this.isTerminated())
+        if (this.isTerminated())
         {
-            paddle.hit(this, this._rectangle);
+            return -1;
         }
+
+        return paddle.getCollectionTime(FixedPoint.fromInt(this._horizontalPosition), this._verticalPosition,
+                FixedPoint.fromInt(this._width), FixedPoint.fromInt(this._height),
+                this._table.scaleVelocity(this._speed));
+    }
+
+    final void initialize(Ability ability, int horizontalPosition, int verticalPosition)
+    {
+        this._ability = ability;
+        this._terminated = false;
+        this._horizontalPosition = horizontalPosition;
+        this._verticalPosition = FixedPoint.fromInt(verticalPosition);
+        this._previousVerticalPosition = this._verticalPosition;
     }
 
     /** {@inheritDoc} */
     @Override
     public final boolean isTerminated()
     {
-        return this._terminated || this._rectangle.getMaxY() >= this._table.getHeight();
+        return this._terminated || FixedPoint.toInt(this._verticalPosition) + this._height >= this._table.getHeight();
     }
 
     /** {@inheritDoc} */
@@ -125,13 +186,18 @@ public class Pill implements Cloneable, Entity, Terminable
         this._table = value;
     }
 
+    final void storePosition()
+    {
+        this._previousVerticalPosition = this._verticalPosition;
+    }
+
     /** {@inheritDoc} */
     @Override
     public final void terminate()
     {
         this._terminated = true;
 
-        this._ability.execute(this._table);
+        this._table.collect(this._ability);
     }
 
     /** {@inheritDoc} */
@@ -140,7 +206,7 @@ public class Pill implements Cloneable, Entity, Terminable
     {
         if (!this.isTerminated())
         {
-            this._rectangle.translate(0, this._speed);
+            this.fall(FixedPoint.ONE);
         }
     }
 
@@ -149,7 +215,8 @@ public class Pill implements Cloneable, Entity, Terminable
      *
      * @param width  The width of the pill.
      * @param height The height of the pill.
-     * @param speed  The speed of the pill.
+     * @param speed  The speed of the pill, in pixels per tick at
+     *               {@link Table#TICKS_PER_SECOND}.
      *
      * @return A new pill instance.
      */
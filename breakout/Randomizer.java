@@ -1,67 +1,100 @@
 package breakout;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import breakout.abilities.Ability;
 import breakout.abilities.LengthAbility;
 import breakout.abilities.SpeedAbility;
+import pong.FixedPoint;
 
 /**
- * Represents an extended random number generator. This class defines the
- * Singleton Design Pattern.
+ * Represents an extended random number generator. Each table owns its own
+ * randomizer, so a table created with a given seed and driven by a given
+ * sequence of inputs always plays the same game, and tables updated on
+ * different threads do not share a generator.
  *
  * @author Ishan Pranav
  */
 public class Randomizer
 {
-    private static Randomizer instance;
+    private static final int ABILITY_CHOICES = 8;
+    private static final Ability[] ABILITIES = new Ability[]
+    {
+        new LengthAbility(0.5), new LengthAbility(2), new SpeedAbility(0.6), new SpeedAbility(-0.6),
+        new SpeedAbility(1.5), new SpeedAbility(-1.5)
+    };
+
+    private final SplittableRandom _random;
+
+    /**
+     * Initializes a new instance of the {@link Randomizer} class with an
+     * unpredictable seed.
+     */
+    public Randomizer()
+    {
+        this(new SplittableRandom());
+    }
 
-    private final Random _random = new Random();
+    /**
+     * Initializes a new instance of the {@link Randomizer} class.
+     *
+     * @param seed The seed.
+     */
+    public Randomizer(long seed)
+    {
+        this(new SplittableRandom(seed));
+    }
 
-    private Randomizer()
+    private Randomizer(SplittableRandom random)
     {
+        this._random = random;
     }
 
     /**
-     * Generates a random ability.
+     * Generates a random ability. Abilities are immutable, so every call
+     * returns one of a few shared instances.
      *
-     * @return The ability.
+     * @return The ability, or {@code null} if no ability is generated.
      */
     public Ability createAbility()
     {
-        final int random = this._random.nextInt(8);
+        final int random = this._random.nextInt(ABILITY_CHOICES);
 
-        switch (random)
+        if (random < ABILITIES.length)
         {
-            case 0:
-                return new LengthAbility(0.5);
-                
-            case 1:
-                return new LengthAbility(2);
-
-            case 2:
-                return new SpeedAbility(0.6);
-
-            case 3:
-                return new SpeedAbility(-0.6);
-
-            case 4:
-                return new SpeedAbility(1.5);
-
-            case 5:
-                return new SpeedAbility(-1.5);
-                
-            default:
-                return null;
+            return ABILITIES[random];
         }
+
+        return null;
+    }
+
+    /**
+     * Generates a random particle lifetime.
+     *
+     * @return The lifetime, in frames.
+     */
+    public int createLifetime()
+    {
+        return this._random.nextInt(480) + 120;
+    }
+
+    /**
+     * Generates a random seed for another randomizer.
+     *
+     * @return The seed.
+     */
+    public long createSeed()
+    {
+        return this._random.nextLong();
     }
 
     /**
      * Generates a random velocity.
      *
-     * @return The velocity.
+     * @return The velocity, in pixels per tick at {@link Table#TICKS_PER_SECOND}
+     *         as a 16.16 fixed-point number.
      */
-    public double createVelocity()
+    public int createVelocity()
     {
         int sign;
 
@@ -74,21 +107,17 @@ public class Randomizer
             sign = -1;
         }
 
-        return sign * (this._random.nextDouble() * 3 + 1);
+        return sign * (FixedPoint.ONE + this._random.nextInt(FixedPoint.ONE * 3));
     }
 
     /**
-     * Gets the default {@link Randomizer} instance.
+     * Creates a new randomizer whose sequence is determined by, but independent
+     * of, the sequence of this randomizer.
      *
-     * @return The default instance.
+     * @return A new instance of the {@link Randomizer} class.
      */
-    public static Randomizer getDefault()
+    public Randomizer split()
     {
-        if (instance == null)
-        {
-            instance = new Randomizer();
-        }
-
-        return instance;
+        return new Randomizer(this._random.split());
     }
 }
@@ -2,11 +2,17 @@ package breakout;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 import breakout.abilities.Ability;
+import pong.DrawCommandBuffer;
 import pong.Entity;
+import pong.EntityRegistry;
+import pong.FixedPoint;
+import pong.Rasterizable;
 import pong.application.windows.CenteredStringDrawingContext;
+import pong.application.windows.DirtyRegion;
+import pong.application.windows.PixelCanvas;
 
 /**
  * Represents a table used for table tennis. This class defines the Composite
@@ -14,10 +20,19 @@ import pong.application.windows.CenteredStringDrawingContext;
  *
  * @author Ishan Pranav
  */
-public class Table implements Entity, Terminable
+public class Table implements Entity, Rasterizable, Terminable
 {
+    /**
+     * Specifies the tick rate at which speeds and durations are given, in ticks
+     * per second. A table updated at another tick rate scales them so that
+     * objects follow the same trajectories over the same time.
+     */
+    public static final int TICKS_PER_SECOND = 60;
+
     private static final int PARTICLE_ROWS = 4;
     private static final int PARTICLE_COLUMNS = 12;
+    private static final int SCORE_POSITION = 250;
+    private static final int MAX_PARTICLES = 4096;
 
     private final Ball _ball;
     private final int _height;
@@ -25,18 +40,30 @@ public class Table implements Entity, Terminable
     private final Brick _brick;
     private final Pill _pill;
     private final int _width;
-    private final ArrayList<Entity> _entities = new ArrayList<Entity>(2);
-    private final ArrayList<Pill> _pills = new ArrayList<Pill>();
+    private final EntityRegistry<Entity> _entities = new EntityRegistry<Entity>();
+    private final EntityRegistry<Pill> _pills = new EntityRegistry<Pill>();
     private final int _columns;
     private final int _margin;
-
+    private final CenteredStringDrawingContext _stringDrawingContext;
+    private final DrawCommandBuffer _commands = new DrawCommandBuffer();
+    private final ParticleSystem _particles;
+    private final Randomizer _randomizer;
+    private final int _ticksPerSecond;
+
+    private Pill[] _pool = new Pill[4];
+    private int _poolSize;
     private int _rows;
     private int _destroyed;
-    private int _particleIndex;
-    private Brick[] _bricks;
-    private Particle[] _particles;
+    private BrickGrid _grid;
     private int _score;
+    private int _abilities;
     private boolean _terminated;
+    private boolean _damaged;
+    private boolean _scoreDamaged;
+    private boolean _linearScan;
+    private int _interpolation = FixedPoint.ONE;
+    private int _time = FixedPoint.ONE;
+    private int _phase;
 
     /**
      * Initializes a new instance of the {@link Table} class.
@@ -51,6 +78,49 @@ public class Table implements Entity, Terminable
      * @param margin  The margin.
      */
     public Table(Ball ball, Paddle paddle, Brick brick, Pill pill, int width, int height, int columns, int margin)
+    {
+        this(ball, paddle, brick, pill, width, height, columns, margin, new Randomizer());
+    }
+
+    /**
+     * Initializes a new instance of the {@link Table} class.
+     *
+     * @param ball       The ball.
+     * @param paddle     The paddle.
+     * @param brick      The brick prototype.
+     * @param pill       The pill prototype.
+     * @param width      The width.
+     * @param height     The height.
+     * @param columns    The number of columns of bricks.
+     * @param margin     The margin.
+     * @param randomizer The randomizer that generates the abilities and the
+     *                   particles. The table takes ownership of the randomizer.
+     */
+    public Table(Ball ball, Paddle paddle, Brick brick, Pill pill, int width, int height, int columns, int margin,
+            Randomizer randomizer)
+    {
+        this(ball, paddle, brick, pill, width, height, columns, margin, randomizer, TICKS_PER_SECOND);
+    }
+
+    /**
+     * Initializes a new instance of the {@link Table} class.
+     *
+     * @param ball           The ball.
+     * @param paddle         The paddle.
+     * @param brick          The brick prototype.
+     * @param pill           The pill prototype.
+     * @param width          The width.
+     * @param height         The height.
+     * @param columns        The number of columns of bricks.
+     * @param margin         The margin.
+     * @param randomizer     The randomizer that generates the abilities and the
+     *                       particles. The table takes ownership of the
+     *                       randomizer.
+     * @param ticksPerSecond The tick rate at which the table is updated, in
+     *                       ticks per second.
+     */
+    public Table(Ball ball, Paddle paddle, Brick brick, Pill pill, int width, int height, int columns, int margin,
+            Randomizer randomizer, int ticksPerSecond)
     {
         this._entities.add(ball);
         this._entities.add(paddle);
@@ -62,9 +132,6 @@ public class Table implements Entity, Terminable
         paddle.setTable(this);
 
         this._paddle = paddle;
-
-        brick.setTable(this);
-
         this._brick = brick;
 
         pill.setTable(this);
@@ -74,12 +141,39 @@ public class Table implements Entity, Terminable
         this._height = height;
         this._columns = columns;
         this._margin = margin;
+        this._randomizer = randomizer;
+        this._ticksPerSecond = ticksPerSecond;
+        this._stringDrawingContext = new CenteredStringDrawingContext(null, width, 0, SCORE_POSITION);
+
+        this._particles = new ParticleSystem(MAX_PARTICLES, brick.getWidth() / PARTICLE_COLUMNS);
 
+        this._particles.setTable(this);
+        this._stringDrawingContext.setSize(50);
         this.advance();
     }
 
+    private Pill acquire(Ability ability, int horizontalPosition, int verticalPosition)
+    {
+        if (this._poolSize == 0)
+        {
+            return this._pill.clone(ability, horizontalPosition, verticalPosition);
+        }
+
+        this._poolSize--;
+
+        final Pill result = this._pool[this._poolSize];
+
+        this._pool[this._poolSize] = null;
+
+        result.initialize(ability, horizontalPosition, verticalPosition);
+
+        return result;
+    }
+
     /**
-     * Advances the difficulty level of the game.
+     * Advances the difficulty level of the game. Each brick drops at most one
+     * pill, so the pill pool is filled to the number of bricks and the ticks
+     * of the new level do not allocate pills.
      */
     public final void advance()
     {
@@ -88,33 +182,117 @@ public class Table implements Entity, Terminable
         this._ball.serve();
 
         this._destroyed = 0;
-        this._particleIndex = 0;
         this._rows += 2;
-        this._bricks = new Brick[this._rows * this._columns];
-        this._particles = new Particle[this._bricks.length * PARTICLE_ROWS * PARTICLE_COLUMNS];
 
-        int i = 0;
+        final int cellWidth = this._margin + this._brick.getWidth();
+        final int cellHeight = this._margin + this._brick.getHeight();
+        final int centerMargin = (this._width - this._columns * cellWidth) / 2;
+
+        if (this._grid != null)
+        {
+            this._grid.dispose();
+        }
+
+        this._grid = new BrickGrid(this._rows, this._columns, centerMargin, cellHeight * 2, cellWidth, cellHeight);
+
+        this._grid.setLinear(this._linearScan);
 
-        final int centerMargin = (this._width - this._columns * (this._margin + this._brick.getWidth())) / 2;
         final int penultimateRow = this._rows - 1;
         final int startRed = 255;
         final int stepRed = -startRed / penultimateRow;
         final int stepGreen = 255 / penultimateRow;
         final int stepBlue = 255 / penultimateRow;
+        final Color[] colors = new Color[this._rows];
+
+        this._particles.setPalette(colors);
 
         for (int row = 0; row < this._rows; row++)
         {
+            colors[row] = new Color(startRed + row * stepRed, row * stepGreen, row * stepBlue);
+
             for (int column = 0; column < this._columns; column++)
             {
-                final Brick brick = this._brick.clone(row,
-                        new Color(startRed + row * stepRed, row * stepGreen, row * stepBlue),
-                        centerMargin + column * (this._margin + this._brick.getWidth()),
-                        (row + 2) * (this._margin + this._brick.getHeight()));
+                this._grid.set(this._brick.clone(row, column, colors[row], centerMargin + column * cellWidth,
+                        (row + 2) * cellHeight));
+            }
+        }
+
+        this._pills.ensureCapacity(this._grid.getLength());
+
+        while (this._poolSize < this._grid.getLength())
+        {
+            this.release(this._pill.clone(null, 0, 0));
+        }
+    }
+
+    private void capture(DrawCommandBuffer commands)
+    {
+        this._ball.capture(commands);
+        this._paddle.capture(commands);
+
+        for (int i = 0; i < this._pills.size(); i++)
+        {
+            this._pills.get(i).capture(commands);
+        }
+
+        this._particles.capture(commands);
+    }
+
+    final void capture(TableSnapshot snapshot)
+    {
+        final DrawCommandBuffer commands = snapshot.getCommands();
+
+        this._grid.capture(commands);
+        this.capture(commands);
+
+        snapshot.setScore(this._score);
+        snapshot.setWidth(this._width);
+    }
+
+    final void collect(Ability ability)
+    {
+        this._abilities++;
+
+        ability.execute(this);
+    }
+
+    /**
+     * Adds the regions of the table that may have changed since the previous
+     * call to a dirty region. These are the current bounds of the moving
+     * entities, the bounds of the bricks destroyed since the previous call and,
+     * if the score changed, the line on which it is drawn. After the table is
+     * reset, the whole canvas is added.
+     *
+     * @param region The dirty region.
+     */
+    public final void damage(DirtyRegion region)
+    {
+        if (this._damaged)
+        {
+            this._damaged = false;
+            this._scoreDamaged = false;
+
+            region.addAll();
+        }
+        else
+        {
+            this._grid.damage(region);
+            this._ball.damage(region);
+            this._paddle.damage(region);
+
+            for (int i = 0; i < this._pills.size(); i++)
+            {
+                this._pills.get(i).damage(region);
+            }
+
+            this._particles.damage(region);
 
-                this._bricks[i] = brick;
-                this._entities.add(brick);
+            if (this._scoreDamaged)
+            {
+                this._scoreDamaged = false;
 
-                i++;
+                region.add(0, SCORE_POSITION, this._width,
+                        this._stringDrawingContext.getVerticalPosition() - SCORE_POSITION);
             }
         }
     }
@@ -126,64 +304,48 @@ public class Table implements Entity, Terminable
      */
     public final void destroy(Brick brick)
     {
-        for (int i = 0; i < this._bricks.length; i++)
+        if (this._grid.remove(brick))
         {
-            if (this._bricks[i] == brick)
+            this._score += (this._rows - brick.getRow()) * 2 - 1;
+            this._scoreDamaged = true;
+            this._destroyed++;
+
+            if (this._destroyed == this._grid.getLength())
             {
-                this._bricks[i] = null;
-                this._score += (this._rows - i / this._columns) * 2 - 1;
-                this._entities.remove(brick);
-                this._destroyed++;
+                this.advance();
+            }
+            else
+            {
+                final Ability ability = this._randomizer.createAbility();
 
-                if (this._destroyed == this._bricks.length)
-                {
-                    this.advance();
-                }
-                else
+                if (ability != null)
                 {
-                    final Ability ability = Randomizer.getDefault().createAbility();
+                    final Pill pill = this.acquire(ability,
+                            brick.getHorizontalPosition() + (brick.getWidth() - this._pill.getWidth()) / 2,
+                            brick.getVerticalPosition() + brick.getHeight());
 
-                    if (ability != null)
-                    {
-                        final Pill pill = this._pill.clone(ability,
-                                brick.getHorizontalPosition() + (brick.getWidth() - this._pill.getWidth()) / 2,
-                                brick.getVerticalPosition() + brick.getHeight());
+                    pill.fall(FixedPoint.ONE - this._time);
 
-                        this._pills.add(pill);
-                        this._entities.add(pill);
-                    }
+                    this._pills.add(pill);
+                }
 
-                    final Color brickColor = brick.getColor();
-                    final int particleSize = brick.getWidth() / PARTICLE_COLUMNS;
-                    final int initialHorizontalPosition = brick.getHorizontalPosition();
-                    int horizontalPosition = 0;
-                    int verticalPosition = brick.getVerticalPosition() - particleSize;
+                final int particleSize = brick.getWidth() / PARTICLE_COLUMNS;
+                final int initialHorizontalPosition = brick.getHorizontalPosition();
+                int horizontalPosition = 0;
+                int verticalPosition = brick.getVerticalPosition() - particleSize;
 
-                    for (int j = 0; j < PARTICLE_ROWS * PARTICLE_COLUMNS; j++)
+                for (int j = 0; j < PARTICLE_ROWS * PARTICLE_COLUMNS; j++)
+                {
+                    if (j % PARTICLE_COLUMNS == 0)
                     {
-                        if (j % PARTICLE_COLUMNS == 0)
-                        {
-                            horizontalPosition = initialHorizontalPosition;
-                            verticalPosition += particleSize;
-                        }
-
-                        final Particle particle = new Particle(brickColor, horizontalPosition, verticalPosition,
-                                particleSize);
-
-                        particle.setTable(this);
-                        particle.serve();
-
-                        this._entities.add(particle);
-
-                        this._particles[this._particleIndex] = particle;
+                        horizontalPosition = initialHorizontalPosition;
+                        verticalPosition += particleSize;
+                    }
 
-                        horizontalPosition += particleSize;
+                    this._particles.emit(horizontalPosition, verticalPosition, brick.getRow());
 
-                        this._particleIndex++;
-                    }
+                    horizontalPosition += particleSize;
                 }
-
-                break;
             }
         }
     }
@@ -192,18 +354,30 @@ public class Table implements Entity, Terminable
     @Override
     public final void draw(Graphics2D graphics2D)
     {
-        for (final Entity entity : this._entities)
-        {
-            entity.draw(graphics2D);
-        }
+        this._grid.draw(graphics2D);
+        this._commands.clear();
+        this.capture(this._commands);
+        this._commands.flush(graphics2D);
+        this.drawScore(graphics2D);
+    }
 
+    private void drawScore(Graphics2D graphics2D)
+    {
         graphics2D.setColor(Color.WHITE);
 
-        final CenteredStringDrawingContext stringDrawingContext = new CenteredStringDrawingContext(graphics2D,
-                this.getWidth(), 0, 250);
+        this._stringDrawingContext.setGraphics2D(graphics2D);
+        this._stringDrawingContext.setVerticalPosition(SCORE_POSITION);
+        this._stringDrawingContext.draw(this._score);
+    }
 
-        stringDrawingContext.setSize(50);
-        stringDrawingContext.draw(this._score);
+    /**
+     * Gets the number of abilities collected by the paddle.
+     *
+     * @return The number of abilities collected.
+     */
+    public final int getAbilities()
+    {
+        return this._abilities;
     }
 
     /**
@@ -216,11 +390,27 @@ public class Table implements Entity, Terminable
         return this._ball;
     }
 
+    final BrickGrid getGrid()
+    {
+        return this._grid;
+    }
+
     final double getHeight()
     {
         return this._height;
     }
 
+    /**
+     * Gets the difficulty level, starting from one. The level increases each
+     * time every brick is destroyed.
+     *
+     * @return The level.
+     */
+    public final int getLevel()
+    {
+        return this._rows / 2;
+    }
+
     /**
      * Gets the left paddle.
      *
@@ -231,6 +421,11 @@ public class Table implements Entity, Terminable
         return this._paddle;
     }
 
+    final ParticleSystem getParticles()
+    {
+        return this._particles;
+    }
+
     /**
      * Gets the paddle.
      *
@@ -241,11 +436,44 @@ public class Table implements Entity, Terminable
         return this._paddle;
     }
 
+    final Randomizer getRandomizer()
+    {
+        return this._randomizer;
+    }
+
+    /**
+     * Gets the score.
+     *
+     * @return The score.
+     */
+    public final int getScore()
+    {
+        return this._score;
+    }
+
+    /**
+     * Gets the fraction of the current tick that has elapsed. Entities created
+     * during a tick move for the rest of it, so they follow the same
+     * trajectories whatever the tick rate. Between ticks, the whole tick has
+     * elapsed.
+     *
+     * @return The fraction of the tick as a 16.16 fixed-point number.
+     */
+    final int getTime()
+    {
+        return this._time;
+    }
+
     final int getWidth()
     {
         return this._width;
     }
 
+    final int interpolate(int previous, int current)
+    {
+        return FixedPoint.interpolate(previous, current, this._interpolation);
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean isTerminated()
@@ -253,38 +481,172 @@ public class Table implements Entity, Terminable
         return this._terminated;
     }
 
+    /**
+     * Draws the bricks and the moving entities directly into the pixels of a
+     * canvas, bypassing the cached brick layer, and then draws the score.
+     *
+     * @param canvas The pixel canvas.
+     */
+    @Override
+    public final void rasterize(PixelCanvas canvas)
+    {
+        this._commands.clear();
+        this._grid.capture(this._commands);
+        this.capture(this._commands);
+        this._commands.flush(canvas);
+        this.drawScore(canvas.getGraphics2D());
+    }
+
     /** {@inheritDoc} */
     @Override
     public final void reset()
     {
         this._terminated = false;
+        this._damaged = true;
 
-        for (final Entity entity : this._entities)
+        this._entities.reset();
+
+        for (int i = 0; i < this._pills.size(); i++)
         {
-            entity.reset();
+            this.release(this._pills.get(i));
         }
 
-        if (this._particles != null)
+        this._pills.clear();
+
+        this._particles.clear();
+    }
+
+    private void release(Pill pill)
+    {
+        if (this._poolSize == this._pool.length)
         {
-            for (int i = 0; i < this._particles.length; i++)
-            {
-                final Particle particle = this._particles[i];
+            this._pool = Arrays.copyOf(this._pool, this._poolSize * 2);
+        }
 
-                if (particle != null)
-                {
-                    this._particles[i] = null;
+        this._pool[this._poolSize] = pill;
+        this._poolSize++;
+    }
 
-                    this._entities.remove(particle);
-                }
-            }
+    final int scaleDuration(int ticks)
+    {
+        return (int)((long)ticks * this._ticksPerSecond / TICKS_PER_SECOND);
+    }
+
+    /**
+     * Scales a velocity given per tick at {@link #TICKS_PER_SECOND} to the
+     * displacement over the current tick at the tick rate of the table. The
+     * remainders of the division are carried from tick to tick, so over a
+     * second a constant velocity covers exactly the same distance at every
+     * tick rate.
+     */
+    final int scaleVelocity(int value)
+    {
+        if (this._ticksPerSecond == TICKS_PER_SECOND)
+        {
+            return value;
         }
 
-        for (final Pill pill : this._pills)
+        final long distance = (long)value * TICKS_PER_SECOND;
+
+        return (int)(Math.floorDiv(distance * (this._phase + 1), this._ticksPerSecond)
+                - Math.floorDiv(distance * this._phase, this._ticksPerSecond));
+    }
+
+    /**
+     * Sets the fraction of a tick that has elapsed since the most recent
+     * update. The moving entities are drawn at this fraction of the way from
+     * their positions stored by {@link #storePositions()} to their current
+     * positions, so motion stays smooth when the table is drawn more often than
+     * it is updated.
+     *
+     * @param value The fraction, from zero to one. The default is one, which
+     *              draws the current positions.
+     */
+    public final void setInterpolation(double value)
+    {
+        this._interpolation = FixedPoint.fromDouble(Math.max(0, Math.min(1, value)));
+    }
+
+    final void setTime(int value)
+    {
+        this._time = value;
+    }
+
+    /**
+     * Sets whether collisions with bricks are found by testing every brick
+     * instead of only the bricks in the cells that a body overlaps. The
+     * results are the same; the linear scan is kept to measure the grid
+     * against it.
+     *
+     * @param value {@code true} if every brick is tested; otherwise,
+     *              {@code false}. The default is {@code false}.
+     */
+    final void setLinearScan(boolean value)
+    {
+        this._linearScan = value;
+
+        this._grid.setLinear(value);
+    }
+
+    /**
+     * Sets the maximum number of live particles. Once this many particles are
+     * live, each new particle replaces the oldest one. If more particles are
+     * live, the oldest ones are removed.
+     *
+     * @param value The maximum number of particles. The default is 4096.
+     * @throws IllegalArgumentException {@code value} is negative.
+     */
+    public final void setMaxParticles(int value)
+    {
+        this._particles.setCapacity(value);
+    }
+
+    /**
+     * Stores the positions of the moving entities as the positions from which
+     * drawing interpolates. This method should be called at the start of each
+     * tick, before any entity moves.
+     */
+    public final void storePositions()
+    {
+        this._ball.storePosition();
+        this._paddle.storePosition();
+
+        for (int i = 0; i < this._pills.size(); i++)
         {
-            this._entities.remove(pill);
+            this._pills.get(i).storePosition();
         }
 
-        this._pills.clear();
+        this._particles.storePositions();
+    }
+
+    /**
+     * Sweeps a moving rectangle against the side walls, the ceiling and the
+     * floor. Each of them is a rectangle as large as the table just outside of
+     * it, so a rectangle moving less than the size of the table per tick cannot
+     * pass through it. The rectangle and its displacement are 16.16 fixed-point
+     * numbers.
+     */
+    final void sweep(Impact impact, int horizontalPosition, int verticalPosition, int width, int height,
+            int horizontalDisplacement, int verticalDisplacement)
+    {
+        final int tableWidth = FixedPoint.fromInt(this._width);
+        final int tableHeight = FixedPoint.fromInt(this._height);
+
+        if (impact.test(horizontalPosition, verticalPosition, width, height, horizontalDisplacement,
+                verticalDisplacement, -tableWidth, -tableHeight, tableWidth, tableHeight * 3)
+                | impact.test(horizontalPosition, verticalPosition, width, height, horizontalDisplacement,
+                        verticalDisplacement, tableWidth, -tableHeight, tableWidth, tableHeight * 3)
+                | impact.test(horizontalPosition, verticalPosition, width, height, horizontalDisplacement,
+                        verticalDisplacement, -tableWidth, -tableHeight, tableWidth * 3, tableHeight))
+        {
+            impact.setObstacle(Impact.WALL);
+        }
+
+        if (impact.test(horizontalPosition, verticalPosition, width, height, horizontalDisplacement,
+                verticalDisplacement, -tableWidth, tableHeight, tableWidth * 3, tableHeight))
+        {
+            impact.setObstacle(Impact.FLOOR);
+        }
     }
 
     /** {@inheritDoc} */
@@ -294,44 +656,76 @@ public class Table implements Entity, Terminable
         this._terminated = true;
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Updates the table by one tick. A pill takes effect at the moment within
+     * the tick at which the paddle first overlaps it: the ball moves up to
+     * that moment, the ability of the pill is executed, and the ball moves for
+     * the rest of the tick, so abilities change the trajectory of the ball at
+     * the same time whatever the tick rate.
+     */
     @Override
     public final void update()
     {
-        for (final Entity entity : this._entities)
-        {
-            entity.update();
-        }
+        this._entities.update();
+        this._pills.update();
+        this._particles.update(this._grid);
+
+        this._time = 0;
 
-        for (int i = 0; i < this._particles.length; i++)
+        while (true)
         {
-            final Particle particle = this._particles[i];
+            Pill collected = null;
+            int collectionTime = FixedPoint.ONE;
 
-            if (particle != null && particle.isTerminated() && this._entities.remove(particle))
+            for (int i = 0; i < this._pills.size(); i++)
             {
-                this._particles[i] = null;
+                final Pill pill = this._pills.get(i);
+                final int pillTime = pill.getCollectionTime(this._paddle);
+
+                if (pillTime >= 0 && pillTime < collectionTime)
+                {
+                    collected = pill;
+                    collectionTime = pillTime;
+                }
             }
-        }
 
-        for (final Brick brick : this._bricks)
-        {
-            if (brick != null)
+            if (collected == null)
             {
-                this._ball.hit(brick);
+                break;
+            }
 
-                for (final Particle particle : this._particles)
-                {
-                    if (particle != null)
-                    {
-                        particle.hit(brick);
-                    }
-                }
+            final BrickGrid grid = this._grid;
+
+            this._ball.move(collectionTime);
+
+            if (this._grid == grid)
+            {
+                collected.terminate();
             }
         }
 
-        for (final Pill pill : this._pills)
+        this._ball.move(FixedPoint.ONE);
+
+        this._phase++;
+
+        if (this._phase == this._ticksPerSecond)
+        {
+            this._phase = 0;
+        }
+
+        this._pills.beginIteration();
+
+        for (int i = 0; i < this._pills.size(); i++)
         {
-            pill.hit(this._paddle);
+            final Pill pill = this._pills.get(i);
+
+            if (pill.isTerminated())
+            {
+                this._pills.remove(this._pills.getHandle(i));
+                this.release(pill);
+            }
         }
+
+        this._pills.endIteration();
     }
 }
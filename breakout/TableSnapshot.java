@@ -0,0 +1,97 @@
+package breakout;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+import pong.DrawCommandBuffer;
+import pong.Rasterizable;
+import pong.application.windows.CenteredStringDrawingContext;
+import pong.application.windows.PixelCanvas;
+
+/**
+ * Represents the drawable state of a table at the end of a tick. A snapshot
+ * shares no mutable state with the table, so it can be drawn on one thread
+ * while the table is updated on another. Capturing into an existing snapshot
+ * does not allocate once its arrays are large enough.
+ *
+ * @author Ishan Pranav
+ */
+public final class TableSnapshot implements Rasterizable
+{
+    private final DrawCommandBuffer _commands = new DrawCommandBuffer();
+
+    private int _score;
+    private int _width;
+    private CenteredStringDrawingContext _stringDrawingContext;
+
+    /**
+     * Initializes a new instance of the {@link TableSnapshot} class.
+     */
+    public TableSnapshot()
+    {
+    }
+
+    /**
+     * Captures the drawable state of a table.
+     *
+     * @param table The table.
+     */
+    public final void capture(Table table)
+    {
+        this._commands.clear();
+        table.capture(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void draw(Graphics2D graphics2D)
+    {
+        this._commands.flush(graphics2D);
+        this.drawScore(graphics2D);
+    }
+
+    private void drawScore(Graphics2D graphics2D)
+    {
+        graphics2D.setColor(Color.WHITE);
+
+        this._stringDrawingContext.setGraphics2D(graphics2D);
+        this._stringDrawingContext.setVerticalPosition(250);
+        this._stringDrawingContext.draw(this._score);
+    }
+
+    final DrawCommandBuffer getCommands()
+    {
+        return this._commands;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void rasterize(PixelCanvas canvas)
+    {
+        this._commands.flush(canvas);
+        this.drawScore(canvas.getGraphics2D());
+    }
+
+    final void setScore(int value)
+    {
+        this._score = value;
+    }
+
+    final void setWidth(int value)
+    {
+        if (this._stringDrawingContext == null || value != this._width)
+        {
+            this._stringDrawingContext = new CenteredStringDrawingContext(null, value, 0, 250);
+
+            this._stringDrawingContext.setSize(50);
+        }
+
+        this._width = value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void update()
+    {
+    }
+}
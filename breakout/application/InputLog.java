@@ -0,0 +1,254 @@
+package breakout.application;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Represents the recorded input of one game: the seed of its table, whether it
+ * was an observer game, its tick rate, the keys consumed on each tick and the
+ * final score.
+ * Recording a tick stores one byte in memory and does not allocate once the
+ * log is large enough. In a file, the inputs are run-length encoded, so a game
+ * of several minutes usually takes a few kilobytes.
+ *
+ * @author Ishan Pranav
+ */
+public final class InputLog
+{
+    /**
+     * Specifies that the left key is pressed.
+     */
+    public static final int LEFT = 1;
+
+    /**
+     * Specifies that the right key is pressed.
+     */
+    public static final int RIGHT = 2;
+
+    /**
+     * Specifies that the escape key is pressed. The game ends on the tick on
+     * which escape is pressed, without updating the table.
+     */
+    public static final int ESCAPE = 4;
+
+    private static final int MAGIC = 0x42524b32;
+
+    private final long _seed;
+    private final boolean _observer;
+    private final int _ticksPerSecond;
+
+    private byte[] _inputs = new byte[1024];
+    private int _ticks;
+    private int _score;
+
+    /**
+     * Initializes a new instance of the {@link InputLog} class.
+     *
+     * @param seed           The seed of the randomizer of the table.
+     * @param observer       {@code true} if the game is an observer game;
+     *                       otherwise, {@code false}.
+     * @param ticksPerSecond The tick rate of the game, in ticks per second.
+     */
+    public InputLog(long seed, boolean observer, int ticksPerSecond)
+    {
+        this._seed = seed;
+        this._observer = observer;
+        this._ticksPerSecond = ticksPerSecond;
+    }
+
+    /**
+     * Gets the keys pressed on a tick.
+     *
+     * @param tick The zero-based tick.
+     * @return A combination of {@link #LEFT}, {@link #RIGHT} and
+     *         {@link #ESCAPE}.
+     */
+    public final int getInput(int tick)
+    {
+        return this._inputs[tick];
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return The final score.
+     */
+    public final int getScore()
+    {
+        return this._score;
+    }
+
+    /**
+     * Gets the seed of the randomizer of the table.
+     *
+     * @return The seed.
+     */
+    public final long getSeed()
+    {
+        return this._seed;
+    }
+
+    /**
+     * Gets the number of recorded ticks.
+     *
+     * @return The number of recorded ticks.
+     */
+    public final int getTicks()
+    {
+        return this._ticks;
+    }
+
+    /**
+     * Gets the tick rate of the game.
+     *
+     * @return The tick rate, in ticks per second.
+     */
+    public final int getTicksPerSecond()
+    {
+        return this._ticksPerSecond;
+    }
+
+    /**
+     * Gets a value indicating whether the game is an observer game.
+     *
+     * @return {@code true} if the game is an observer game; otherwise,
+     *         {@code false}.
+     */
+    public final boolean isObserver()
+    {
+        return this._observer;
+    }
+
+    /**
+     * Reads a log from a file.
+     *
+     * @param path The path of the file.
+     * @return A new instance of the {@link InputLog} class.
+     * @throws IOException An I/O error occurred or the file is not a log.
+     */
+    public static InputLog read(String path) throws IOException
+    {
+        final DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(path)));
+
+        try
+        {
+            final int magic = input.readInt();
+
+            if (magic != MAGIC)
+            {
+                throw new IOException("The file is not an input log.");
+            }
+
+            final long seed = input.readLong();
+            final boolean observer = input.readBoolean();
+            final int ticksPerSecond = input.readInt();
+
+            if (ticksPerSecond <= 0)
+            {
+                throw new IOException("The input log is corrupt.");
+            }
+
+            final InputLog result = new InputLog(seed, observer, ticksPerSecond);
+            final int ticks = input.readInt();
+
+            result._score = input.readInt();
+            result._inputs = new byte[Math.max(ticks, 1)];
+
+            while (result._ticks < ticks)
+            {
+                final byte value = input.readByte();
+                final int length = input.readInt();
+
+                if (length <= 0 || length > ticks - result._ticks)
+                {
+                    throw new IOException("The input log is corrupt.");
+                }
+
+                Arrays.fill(result._inputs, result._ticks, result._ticks + length, value);
+
+                result._ticks += length;
+            }
+
+            return result;
+        }
+        finally
+        {
+            input.close();
+        }
+    }
+
+    /**
+     * Records the keys pressed on the next tick.
+     *
+     * @param value A combination of {@link #LEFT}, {@link #RIGHT} and
+     *              {@link #ESCAPE}.
+     */
+    public final void record(int value)
+    {
+        if (this._ticks == this._inputs.length)
+        {
+            this._inputs = Arrays.copyOf(this._inputs, this._ticks * 2);
+        }
+
+        this._inputs[this._ticks] = (byte)value;
+        this._ticks++;
+    }
+
+    /**
+     * Sets the final score.
+     *
+     * @param value The final score.
+     */
+    public final void setScore(int value)
+    {
+        this._score = value;
+    }
+
+    /**
+     * Writes the log to a file, replacing its contents.
+     *
+     * @param path The path of the file.
+     * @throws IOException An I/O error occurred.
+     */
+    public final void write(String path) throws IOException
+    {
+        final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+
+        try
+        {
+            output.writeInt(MAGIC);
+            output.writeLong(this._seed);
+            output.writeBoolean(this._observer);
+            output.writeInt(this._ticksPerSecond);
+            output.writeInt(this._ticks);
+            output.writeInt(this._score);
+
+            int start = 0;
+
+            while (start < this._ticks)
+            {
+                int end = start + 1;
+
+                while (end < this._ticks && this._inputs[end] == this._inputs[start])
+                {
+                    end++;
+                }
+
+                output.writeByte(this._inputs[start]);
+                output.writeInt(end - start);
+
+                start = end;
+            }
+        }
+        finally
+        {
+            output.close();
+        }
+    }
+}
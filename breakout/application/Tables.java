@@ -0,0 +1,79 @@
+package breakout.application;
+
+import breakout.Ball;
+import breakout.Brick;
+import breakout.Paddle;
+import breakout.Pill;
+import breakout.Randomizer;
+import breakout.Table;
+
+/**
+ * Provides methods for creating the standard table shared by every front end
+ * of the application.
+ *
+ * @author Ishan Pranav
+ */
+public final class Tables
+{
+    /**
+     * Specifies the height of the standard table.
+     */
+    public static final int HEIGHT = 600;
+
+    /**
+     * Specifies the width of the standard table.
+     */
+    public static final int WIDTH = 800;
+
+    private static final int HALF_HEIGHT = HEIGHT / 2;
+    private static final int HALF_WIDTH = WIDTH / 2;
+    private static final int OBJECT_SIZE = 20;
+    private static final int MARGIN = OBJECT_SIZE / 4;
+
+    private Tables()
+    {
+    }
+
+    /**
+     * Creates a new standard table.
+     *
+     * @return A new instance of the {@link Table} class.
+     */
+    public static Table create()
+    {
+        return create(new Randomizer());
+    }
+
+    /**
+     * Creates a new standard table that draws its random values from a given
+     * randomizer.
+     *
+     * @param randomizer The randomizer. The table takes ownership of the
+     *                   randomizer.
+     * @return A new instance of the {@link Table} class.
+     */
+    public static Table create(Randomizer randomizer)
+    {
+        return create(randomizer, Table.TICKS_PER_SECOND);
+    }
+
+    /**
+     * Creates a new standard table that draws its random values from a given
+     * randomizer and is updated at a given tick rate.
+     *
+     * @param randomizer     The randomizer. The table takes ownership of the
+     *                       randomizer.
+     * @param ticksPerSecond The tick rate at which the table is updated, in
+     *                       ticks per second.
+     * @return A new instance of the {@link Table} class.
+     */
+    public static Table create(Randomizer randomizer, int ticksPerSecond)
+    {
+        return new Table(new Ball((WIDTH - OBJECT_SIZE) / 2, HALF_HEIGHT, OBJECT_SIZE, 4),
+                new Paddle(HALF_WIDTH - OBJECT_SIZE - MARGIN, HEIGHT - OBJECT_SIZE - MARGIN, OBJECT_SIZE * 4,
+                        OBJECT_SIZE, 10),
+                Brick.createPrototype(OBJECT_SIZE * 3, OBJECT_SIZE),
+                Pill.createPrototype(OBJECT_SIZE / 2, OBJECT_SIZE, 1), WIDTH, HEIGHT, 10, MARGIN, randomizer,
+                ticksPerSecond);
+    }
+}
@@ -0,0 +1,107 @@
+package breakout.application.headless;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import pong.application.ResourceProvider;
+
+/**
+ * Represents a batch of independent observer games played in parallel on a
+ * fork-join pool. Game {@code i} uses the seed {@code seed + i}, so a batch
+ * always plays the same games regardless of the number of threads. The games
+ * share no mutable state, so the batch scales with the number of cores.
+ *
+ * @author Ishan Pranav
+ */
+public class Batch
+{
+    private final ResourceProvider _resources;
+    private final long _seed;
+    private final int _games;
+    private final long _tickLimit;
+
+    /**
+     * Initializes a new instance of the {@link Batch} class.
+     *
+     * @param resources The resource provider.
+     * @param seed      The seed of the first game.
+     * @param games     The number of games.
+     * @param tickLimit The maximum number of ticks per game.
+     */
+    public Batch(ResourceProvider resources, long seed, int games, long tickLimit)
+    {
+        this._resources = resources;
+        this._seed = seed;
+        this._games = games;
+        this._tickLimit = tickLimit;
+    }
+
+    /**
+     * Plays every game of the batch.
+     *
+     * @param parallelism The number of threads.
+     * @return The aggregate results.
+     */
+    public final BatchStatistics run(int parallelism)
+    {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try
+        {
+            return pool.invoke(new Task(0, this._games));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Represents a task that plays a contiguous range of the games of the
+     * batch, splitting the range in half until it holds a single game.
+     */
+    private final class Task extends RecursiveTask<BatchStatistics>
+    {
+        private static final long serialVersionUID = 6048417591626935104L;
+
+        private final int _start;
+        private final int _end;
+
+        Task(int start, int end)
+        {
+            this._start = start;
+            this._end = end;
+        }
+
+        @Override
+        protected BatchStatistics compute()
+        {
+            if (this._end - this._start <= 1)
+            {
+                final BatchStatistics result = new BatchStatistics();
+
+                if (this._end > this._start)
+                {
+                    final ObserverGame game = new ObserverGame(Batch.this._resources,
+                            Batch.this._seed + this._start);
+
+                    game.run(Batch.this._tickLimit);
+                    result.add(game);
+                }
+
+                return result;
+            }
+
+            final int middle = (this._start + this._end) >>> 1;
+            final Task left = new Task(this._start, middle);
+
+            left.fork();
+
+            final BatchStatistics result = new Task(middle, this._end).compute();
+
+            result.add(left.join());
+
+            return result;
+        }
+    }
+}
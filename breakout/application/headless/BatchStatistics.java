@@ -0,0 +1,148 @@
+package breakout.application.headless;
+
+import breakout.Table;
+
+/**
+ * Represents the aggregate results of a batch of observer games.
+ *
+ * @author Ishan Pranav
+ */
+public final class BatchStatistics
+{
+    private int _games;
+    private int _terminated;
+    private long _score;
+    private int _maximumScore;
+    private long _levels;
+    private int _maximumLevel;
+    private long _ticks;
+    private long _abilities;
+
+    /**
+     * Initializes a new instance of the {@link BatchStatistics} class.
+     */
+    public BatchStatistics()
+    {
+    }
+
+    final void add(BatchStatistics other)
+    {
+        this._games += other._games;
+        this._terminated += other._terminated;
+        this._score += other._score;
+        this._maximumScore = Math.max(this._maximumScore, other._maximumScore);
+        this._levels += other._levels;
+        this._maximumLevel = Math.max(this._maximumLevel, other._maximumLevel);
+        this._ticks += other._ticks;
+        this._abilities += other._abilities;
+    }
+
+    final void add(ObserverGame game)
+    {
+        final Table table = game.getTable();
+
+        this._games++;
+
+        if (game.isTerminated())
+        {
+            this._terminated++;
+        }
+
+        this._score += table.getScore();
+        this._maximumScore = Math.max(this._maximumScore, table.getScore());
+        this._levels += table.getLevel();
+        this._maximumLevel = Math.max(this._maximumLevel, table.getLevel());
+        this._ticks += game.getTicks();
+        this._abilities += table.getAbilities();
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return The number of games.
+     */
+    public final int getGames()
+    {
+        return this._games;
+    }
+
+    /**
+     * Gets the highest level reached by any game.
+     *
+     * @return The highest level.
+     */
+    public final int getMaximumLevel()
+    {
+        return this._maximumLevel;
+    }
+
+    /**
+     * Gets the highest score of any game.
+     *
+     * @return The highest score.
+     */
+    public final int getMaximumScore()
+    {
+        return this._maximumScore;
+    }
+
+    /**
+     * Gets the mean number of abilities collected per game.
+     *
+     * @return The mean number of abilities.
+     */
+    public final double getMeanAbilities()
+    {
+        return (double)this._abilities / this._games;
+    }
+
+    /**
+     * Gets the mean level reached per game.
+     *
+     * @return The mean level.
+     */
+    public final double getMeanLevel()
+    {
+        return (double)this._levels / this._games;
+    }
+
+    /**
+     * Gets the mean score per game.
+     *
+     * @return The mean score.
+     */
+    public final double getMeanScore()
+    {
+        return (double)this._score / this._games;
+    }
+
+    /**
+     * Gets the mean number of ticks survived per game.
+     *
+     * @return The mean number of ticks.
+     */
+    public final double getMeanTicks()
+    {
+        return (double)this._ticks / this._games;
+    }
+
+    /**
+     * Gets the number of games that ended before the tick limit.
+     *
+     * @return The number of games in which the ball was lost.
+     */
+    public final int getTerminated()
+    {
+        return this._terminated;
+    }
+
+    /**
+     * Gets the total number of ticks played by all games.
+     *
+     * @return The total number of ticks.
+     */
+    public final long getTicks()
+    {
+        return this._ticks;
+    }
+}
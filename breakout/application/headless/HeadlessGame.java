@@ -0,0 +1,68 @@
+package breakout.application.headless;
+
+import java.awt.event.KeyEvent;
+
+import breakout.application.InputLog;
+import breakout.application.Tables;
+import breakout.application.windows.state.GameContext;
+import pong.application.ResourceProvider;
+
+/**
+ * Provides a base for game contexts that play without a window or rendering.
+ * The keys report the input of the current tick as a combination of the
+ * {@link InputLog} key flags; no key is pressed unless the input is set.
+ *
+ * @author Ishan Pranav
+ */
+abstract class HeadlessGame implements GameContext
+{
+    private final ResourceProvider _resources;
+
+    private int _input;
+
+    HeadlessGame(ResourceProvider resources)
+    {
+        this._resources = resources;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final ResourceProvider getResources()
+    {
+        return this._resources;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int getWidth()
+    {
+        return Tables.WIDTH;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final boolean isPressed(int keyCode)
+    {
+        switch (keyCode)
+        {
+            case KeyEvent.VK_A:
+            case KeyEvent.VK_LEFT:
+                return (this._input & InputLog.LEFT) != 0;
+
+            case KeyEvent.VK_D:
+            case KeyEvent.VK_RIGHT:
+                return (this._input & InputLog.RIGHT) != 0;
+
+            case KeyEvent.VK_ESCAPE:
+                return (this._input & InputLog.ESCAPE) != 0;
+
+            default:
+                return false;
+        }
+    }
+
+    final void setInput(int value)
+    {
+        this._input = value;
+    }
+}
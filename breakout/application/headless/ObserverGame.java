@@ -0,0 +1,104 @@
+package breakout.application.headless;
+
+import breakout.Randomizer;
+import breakout.Table;
+import breakout.application.Tables;
+import breakout.application.windows.state.GameState;
+import breakout.application.windows.state.ObserverGameState;
+import pong.Drawable;
+import pong.application.ResourceProvider;
+
+/**
+ * Represents a game context that plays a single observer game without a
+ * window or rendering. No key is ever pressed, so the paddle only follows the
+ * ball.
+ *
+ * @author Ishan Pranav
+ */
+public class ObserverGame extends HeadlessGame
+{
+    private final long _seed;
+
+    private GameState _state;
+    private Table _table;
+    private long _ticks;
+    private boolean _terminated;
+
+    /**
+     * Initializes a new instance of the {@link ObserverGame} class.
+     *
+     * @param resources The resource provider.
+     * @param seed      The seed of the randomizer of the table.
+     */
+    public ObserverGame(ResourceProvider resources, long seed)
+    {
+        super(resources);
+
+        this._seed = seed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Table createTable()
+    {
+        this._table = Tables.create(new Randomizer(this._seed));
+
+        return this._table;
+    }
+
+    /**
+     * Gets the table of the game.
+     *
+     * @return The table.
+     */
+    public final Table getTable()
+    {
+        return this._table;
+    }
+
+    /**
+     * Gets the number of ticks played.
+     *
+     * @return The number of ticks.
+     */
+    public final long getTicks()
+    {
+        return this._ticks;
+    }
+
+    /**
+     * Gets a value indicating whether the game ended before the tick limit.
+     *
+     * @return {@code true} if the ball was lost; otherwise, {@code false}.
+     */
+    public final boolean isTerminated()
+    {
+        return this._terminated;
+    }
+
+    /**
+     * Plays the game until the ball is lost or the tick limit is reached.
+     *
+     * @param tickLimit The maximum number of ticks.
+     */
+    public final void run(long tickLimit)
+    {
+        this._state = new ObserverGameState(this);
+
+        while (!this._terminated && this._ticks < tickLimit)
+        {
+            this._state.update();
+            this._ticks++;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void setState(Drawable value)
+    {
+        if (value != this._state)
+        {
+            this._terminated = true;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package breakout.application.headless;
+
+import java.io.IOException;
+
+import breakout.application.InputLog;
+import pong.application.BundleResourceProvider;
+
+/**
+ * Represents the headless application.
+ *
+ * @author Ishan Pranav
+ */
+public final class Program
+{
+    private static final long DEFAULT_TICKS = 1000000;
+    private static final long DEFAULT_TICK_LIMIT = 100000;
+
+    private Program()
+    {
+    }
+
+    private static void batch(Batch batch)
+    {
+        final int parallelism = Runtime.getRuntime().availableProcessors();
+        final long start = System.nanoTime();
+        final BatchStatistics statistics = batch.run(parallelism);
+        final double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d games (%d lost) on %d threads in %.3f s (%.0f ticks per second)%n",
+                statistics.getGames(), statistics.getTerminated(), parallelism, seconds,
+                statistics.getTicks() / seconds);
+        System.out.printf("score: mean %.2f, maximum %d%n", statistics.getMeanScore(), statistics.getMaximumScore());
+        System.out.printf("level: mean %.2f, maximum %d%n", statistics.getMeanLevel(), statistics.getMaximumLevel());
+        System.out.printf("ticks survived: mean %.1f%n", statistics.getMeanTicks());
+        System.out.printf("abilities collected: mean %.2f%n", statistics.getMeanAbilities());
+    }
+
+    /**
+     * Provides the main entry point for the application. The first argument, if
+     * present, is the number of ticks to simulate. The second argument, if
+     * present, is the seed from which the random values of every game are
+     * generated. The {@code -replay} argument, followed by a path, instead plays
+     * back a recorded game and verifies its final score and tick count; the
+     * application exits with a nonzero status if they do not match. The
+     * {@code -batch} argument, followed by a number of games and optionally a
+     * tick limit per game and a seed, instead plays that many observer games in
+     * parallel on every core and prints their aggregate results.
+     *
+     * @param args The application arguments.
+     * @throws IOException An I/O error occurred while reading the recorded
+     *                     game.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length > 1 && args[0].equals("-replay"))
+        {
+            replay(new BundleResourceProvider("breakout.application.Resources"), InputLog.read(args[1]));
+
+            return;
+        }
+
+        if (args.length > 1 && args[0].equals("-batch"))
+        {
+            long tickLimit = DEFAULT_TICK_LIMIT;
+            long seed = 0;
+
+            if (args.length > 2)
+            {
+                tickLimit = Long.parseLong(args[2]);
+            }
+
+            if (args.length > 3)
+            {
+                seed = Long.parseLong(args[3]);
+            }
+
+            batch(new Batch(new BundleResourceProvider("breakout.application.Resources"), seed,
+                    Integer.parseInt(args[1]), tickLimit));
+
+            return;
+        }
+
+        long ticks = DEFAULT_TICKS;
+
+        if (args.length > 0)
+        {
+            ticks = Long.parseLong(args[0]);
+        }
+
+        final BundleResourceProvider resources = new BundleResourceProvider("breakout.application.Resources");
+        final Simulation simulation;
+
+        if (args.length > 1)
+        {
+            simulation = new Simulation(resources, Long.parseLong(args[1]));
+        }
+        else
+        {
+            simulation = new Simulation(resources);
+        }
+
+        final long start = System.nanoTime();
+
+        simulation.run(ticks);
+
+        final double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d ticks in %.3f s (%.0f ticks per second), %d games ended%n", ticks, seconds,
+                ticks / seconds, simulation.getGames());
+    }
+
+    private static void replay(BundleResourceProvider resources, InputLog log)
+    {
+        final Replay replay = new Replay(resources, log);
+        final long start = System.nanoTime();
+
+        replay.run();
+
+        final double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d of %d ticks in %.3f s (%.0f ticks per second), score %d of %d%n", replay.getTicks(),
+                log.getTicks(), seconds, replay.getTicks() / seconds, replay.getScore(), log.getScore());
+
+        if (!replay.isVerified())
+        {
+            System.out.println("The replay does not match the recording.");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package breakout.application.headless;
+
+import breakout.Randomizer;
+import breakout.Table;
+import breakout.application.InputLog;
+import breakout.application.Tables;
+import breakout.application.windows.state.GameState;
+import breakout.application.windows.state.ObserverGameState;
+import breakout.application.windows.state.SingleplayerGameState;
+import pong.Drawable;
+import pong.application.ResourceProvider;
+
+/**
+ * Represents a game context that plays a recorded game back as fast as
+ * possible, without a window, rendering or frame pacing. The game is played on
+ * a table created from the recorded seed, and on each tick the keys report the
+ * recorded input.
+ *
+ * @author Ishan Pranav
+ */
+public class Replay extends HeadlessGame
+{
+    private final InputLog _log;
+
+    private GameState _state;
+    private int _ticks;
+    private boolean _ended;
+
+    /**
+     * Initializes a new instance of the {@link Replay} class.
+     *
+     * @param resources The resource provider.
+     * @param log       The recorded game.
+     */
+    public Replay(ResourceProvider resources, InputLog log)
+    {
+        super(resources);
+
+        this._log = log;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Table createTable()
+    {
+        return Tables.create(new Randomizer(this._log.getSeed()), this._log.getTicksPerSecond());
+    }
+
+    /**
+     * Gets the score of the played game.
+     *
+     * @return The score.
+     */
+    public final int getScore()
+    {
+        return this._state.getScore();
+    }
+
+    /**
+     * Gets the number of recorded ticks that were played.
+     *
+     * @return The number of ticks.
+     */
+    public final int getTicks()
+    {
+        return this._ticks;
+    }
+
+    /**
+     * Determines whether the played game matches the recorded game. The game
+     * matches if it ends on the last recorded tick with the recorded score.
+     *
+     * @return {@code true} if the played game matches the recorded game;
+     *         otherwise, {@code false}.
+     */
+    public final boolean isVerified()
+    {
+        return this._ended && this._ticks == this._log.getTicks() && this.getScore() == this._log.getScore();
+    }
+
+    /**
+     * Plays the recorded game until it ends or the recorded input runs out.
+     */
+    public final void run()
+    {
+        if (this._log.isObserver())
+        {
+            this._state = new ObserverGameState(this);
+        }
+        else
+        {
+            this._state = new SingleplayerGameState(this);
+        }
+
+        this._ticks = 0;
+        this._ended = false;
+
+        while (!this._ended && this._ticks < this._log.getTicks())
+        {
+            final int input = this._log.getInput(this._ticks);
+
+            this.setInput(input);
+            this._ticks++;
+
+            if ((input & InputLog.ESCAPE) != 0)
+            {
+                this._ended = true;
+            }
+            else
+            {
+                this._state.update();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void setState(Drawable value)
+    {
+        if (value != this._state)
+        {
+            this._ended = true;
+        }
+    }
+}
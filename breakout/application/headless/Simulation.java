@@ -0,0 +1,100 @@
+package breakout.application.headless;
+
+import breakout.Randomizer;
+import breakout.Table;
+import breakout.application.Tables;
+import breakout.application.windows.state.ObserverGameState;
+import breakout.application.windows.state.TerminalGameState;
+import pong.Drawable;
+import pong.application.ResourceProvider;
+
+/**
+ * Represents a game context that advances observer games without a window or
+ * rendering. When a game ends, a new one begins. Each table draws its random
+ * values from a randomizer split from the randomizer of the simulation, so a
+ * simulation created with a given seed always plays the same games.
+ *
+ * @author Ishan Pranav
+ */
+public class Simulation extends HeadlessGame
+{
+    private final Randomizer _randomizer;
+
+    private Drawable _state;
+    private long _games;
+
+    /**
+     * Initializes a new instance of the {@link Simulation} class.
+     *
+     * @param resources The resource provider.
+     */
+    public Simulation(ResourceProvider resources)
+    {
+        this(resources, new Randomizer());
+    }
+
+    /**
+     * Initializes a new instance of the {@link Simulation} class.
+     *
+     * @param resources The resource provider.
+     * @param seed      The seed from which the random values of every game are
+     *                  generated.
+     */
+    public Simulation(ResourceProvider resources, long seed)
+    {
+        this(resources, new Randomizer(seed));
+    }
+
+    private Simulation(ResourceProvider resources, Randomizer randomizer)
+    {
+        super(resources);
+
+        this._randomizer = randomizer;
+        this._state = new ObserverGameState(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Table createTable()
+    {
+        return Tables.create(this._randomizer.split());
+    }
+
+    /**
+     * Gets the number of games that have ended.
+     *
+     * @return The number of games that have ended.
+     */
+    public final long getGames()
+    {
+        return this._games;
+    }
+
+    /**
+     * Advances the simulation by a given number of ticks.
+     *
+     * @param ticks The number of ticks.
+     */
+    public final void run(long ticks)
+    {
+        for (long i = 0; i < ticks; i++)
+        {
+            this._state.update();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void setState(Drawable value)
+    {
+        if (value instanceof TerminalGameState)
+        {
+            this._games++;
+            this._state = new ObserverGameState(this);
+        }
+        else
+        {
+            this._state = value;
+        }
+    }
+}
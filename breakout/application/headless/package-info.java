@@ -0,0 +1,5 @@
+/**
+ * Contains types that define the brick-breaking application for environments
+ * without a display.
+ */
+package breakout.application.headless;
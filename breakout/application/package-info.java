@@ -0,0 +1,5 @@
+/**
+ * Contains types and resources shared by the brick-breaking application front
+ * ends.
+ */
+package breakout.application;
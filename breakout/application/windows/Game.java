@@ -3,45 +3,82 @@ package breakout.application.windows;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
-import breakout.Ball;
-import breakout.Brick;
-import breakout.Paddle;
-import breakout.Pill;
+import breakout.Randomizer;
 import breakout.Table;
+import breakout.application.InputLog;
+import breakout.application.Tables;
 import breakout.application.windows.state.GameContext;
+import breakout.application.windows.state.GameState;
 import breakout.application.windows.state.InitialGameState;
+import breakout.application.windows.state.ObserverGameState;
 import pong.Drawable;
 import pong.Entity;
+import pong.Rasterizable;
+import pong.StaticDrawable;
 import pong.application.ResourceProvider;
+import pong.application.windows.DirtyRegion;
 import pong.application.windows.GameDriverSlim;
+import pong.application.windows.PixelCanvas;
 
 /**
  * Represents an application used to play table tennis.
  *
  * @author Ishan Pranav
  */
-public class Game extends GameDriverSlim implements GameContext, Entity
+public class Game extends GameDriverSlim implements GameContext, Entity, Rasterizable
 {
     private static final long serialVersionUID = -1614426423878335492L;
 
-    private static final int HEIGHT = 600;
-    private static final int HALF_HEIGHT = HEIGHT / 2;
-    private static final int OBJECT_SIZE = 20;
-    private static final int MARGIN = OBJECT_SIZE / 4;
-    private static final int WIDTH = 800;
-    private static final int HALF_WIDTH = WIDTH / 2;
-
     /**
      * Specifies the resource provider. This field is serialized.
      */
     private final ResourceProvider _resources;
 
+    /**
+     * Specifies the tick rate at which the tables are updated, in ticks per
+     * second. This field is serialized.
+     */
+    private final int _ticksPerSecond;
+
     /**
      * Specifies the game state. This field is serialized.
      */
     private Drawable _state;
 
+    /**
+     * Specifies the randomizer that generates the seeds of the tables. This
+     * field is serialized.
+     */
+    private final Randomizer _randomizer = new Randomizer();
+
+    /**
+     * Specifies the seed of the most recently created table. This field is
+     * serialized.
+     */
+    private long _seed;
+
+    /**
+     * Specifies the path of the file into which the input of each game is
+     * recorded, or {@code null} if input is not recorded. This field is
+     * serialized.
+     */
+    private String _inputLogPath;
+
+    /**
+     * Specifies the input of the current game, or {@code null} if input is not
+     * being recorded. This field is not serialized.
+     */
+    private transient InputLog _inputLog;
+
+    /**
+     * Specifies the game state drawn by the previous render. This field is not
+     * serialized.
+     */
+    private transient Drawable _damagedState;
+
     /**
      * Initializes a new instance of the {@link Game} class.
      *
@@ -49,33 +86,115 @@ public class Game extends GameDriverSlim implements GameContext, Entity
      */
     public Game(ResourceProvider resources)
     {
+        this(resources, false);
+    }
+
+    /**
+     * Initializes a new instance of the {@link Game} class.
+     *
+     * @param resources  The resource provider.
+     * @param concurrent {@code true} if rendering runs on its own thread;
+     *                   otherwise {@code false}.
+     */
+    public Game(ResourceProvider resources, boolean concurrent)
+    {
+        this(resources, concurrent, Table.TICKS_PER_SECOND, 60);
+    }
+
+    /**
+     * Initializes a new instance of the {@link Game} class.
+     *
+     * @param resources        The resource provider.
+     * @param concurrent       {@code true} if rendering runs on its own thread;
+     *                         otherwise {@code false}.
+     * @param ticksPerSecond   The tick rate at which the tables are updated, in
+     *                         ticks per second.
+     * @param rendersPerSecond The maximum render rate, in frames per second.
+     *                         Unless rendering runs on its own thread, the
+     *                         moving entities are drawn between ticks when this
+     *                         rate exceeds the tick rate.
+     */
+    public Game(ResourceProvider resources, boolean concurrent, int ticksPerSecond, int rendersPerSecond)
+    {
+        super(ticksPerSecond, rendersPerSecond, true, concurrent);
+
         this._resources = resources;
+        this._ticksPerSecond = ticksPerSecond;
         this.setTitle(this._resources.getTitle());
-        this.setSize(WIDTH, HEIGHT);
+        this.setSize(Tables.WIDTH, Tables.HEIGHT);
         this.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected final void capture(Drawable snapshot)
+    {
+        ((GameSnapshot)snapshot).capture(this._state);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final Drawable createSnapshot()
+    {
+        return new GameSnapshot();
+    }
+
     /** {@inheritDoc} */
     @Override
     public final Table createTable()
     {
-        return new Table(new Ball((WIDTH - OBJECT_SIZE) / 2, HALF_HEIGHT, OBJECT_SIZE, 4),
-                new Paddle(HALF_WIDTH - OBJECT_SIZE - MARGIN, HEIGHT - OBJECT_SIZE - MARGIN, OBJECT_SIZE * 4,
-                        OBJECT_SIZE, 10),
-                Brick.createPrototype(OBJECT_SIZE * 3, OBJECT_SIZE),
-                Pill.createPrototype(OBJECT_SIZE / 2, OBJECT_SIZE, 1), WIDTH, HEIGHT, 10, MARGIN);
+        this._seed = this._randomizer.createSeed();
+
+        return Tables.create(new Randomizer(this._seed), this._ticksPerSecond);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void damage(DirtyRegion region)
+    {
+        if (this._state != this._damagedState)
+        {
+            this._damagedState = this._state;
+
+            region.addAll();
+        }
+        else if (this._state instanceof GameState)
+        {
+            ((GameState)this._state).damage(region);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void draw(Graphics2D graphics2D)
     {
-        graphics2D.clearRect(0, 0, this.getWidth(), this.getHeight());
         graphics2D.setColor(Color.white);
 
         this._state.draw(graphics2D);
     }
 
+    private int getInput()
+    {
+        int result = 0;
+
+        if (this.isPressed(KeyEvent.VK_A) || this.isPressed(KeyEvent.VK_LEFT))
+        {
+            result |= InputLog.LEFT;
+        }
+
+        if (this.isPressed(KeyEvent.VK_D) || this.isPressed(KeyEvent.VK_RIGHT))
+        {
+            result |= InputLog.RIGHT;
+        }
+
+        if (this.isPressed(KeyEvent.VK_ESCAPE))
+        {
+            result |= InputLog.ESCAPE;
+        }
+
+        return result;
+    }
+
     /** {@inheritDoc} */
     @Override
     public final ResourceProvider getResources()
@@ -83,6 +202,54 @@ public class Game extends GameDriverSlim implements GameContext, Entity
         return this._resources;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected final void interpolate(double fraction)
+    {
+        if (this._state instanceof GameState)
+        {
+            ((GameState)this._state).setInterpolation(fraction);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final boolean isStatic()
+    {
+        return this._state instanceof StaticDrawable;
+    }
+
+    /**
+     * Records that a key is pressed. The F3 key shows or hides the frame
+     * statistics.
+     *
+     * @param e The key event.
+     */
+    @Override
+    public final void keyPressed(KeyEvent e)
+    {
+        if (e.getKeyCode() == KeyEvent.VK_F3)
+        {
+            this.toggleOverlay();
+        }
+
+        super.keyPressed(e);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void rasterize(PixelCanvas canvas)
+    {
+        if (this._state instanceof Rasterizable)
+        {
+            ((Rasterizable)this._state).rasterize(canvas);
+        }
+        else
+        {
+            this.draw(canvas.getGraphics2D());
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public final void reset()
@@ -90,10 +257,47 @@ public class Game extends GameDriverSlim implements GameContext, Entity
         this.setState(new InitialGameState(this));
     }
 
+    /**
+     * Records the input of each game into a file. When a game ends, its seed,
+     * the keys consumed on each of its ticks and its final score are written
+     * to the file, replacing the previous game. If the file cannot be written,
+     * an {@link UncheckedIOException} is thrown on the game engine thread. This
+     * method should be called before {@link #start()}.
+     *
+     * @param path The path of the file.
+     */
+    public final void setInputLog(String path)
+    {
+        this._inputLogPath = path;
+    }
+
     /** {@inheritDoc} */
     @Override
     public final void setState(Drawable value)
     {
+        if (this._inputLog != null)
+        {
+            final InputLog inputLog = this._inputLog;
+
+            this._inputLog = null;
+
+            inputLog.setScore(((GameState)this._state).getScore());
+
+            try
+            {
+                inputLog.write(this._inputLogPath);
+            }
+            catch (final IOException exception)
+            {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        if (this._inputLogPath != null && value instanceof GameState)
+        {
+            this._inputLog = new InputLog(this._seed, value instanceof ObserverGameState, this._ticksPerSecond);
+        }
+
         this._state = value;
     }
 
@@ -101,11 +305,21 @@ public class Game extends GameDriverSlim implements GameContext, Entity
     @Override
     public void update()
     {
+        if (this._inputLog != null)
+        {
+            this._inputLog.record(this.getInput());
+        }
+
         if (this.isPressed(KeyEvent.VK_ESCAPE))
         {
             this.reset();
         }
 
+        if (this._state instanceof GameState)
+        {
+            ((GameState)this._state).storePositions();
+        }
+
         this._state.update();
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package breakout.application.windows;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+import breakout.TableSnapshot;
+import breakout.application.windows.state.GameState;
+import pong.Drawable;
+import pong.Rasterizable;
+import pong.application.windows.PixelCanvas;
+
+/**
+ * Represents the drawable state of a game at the end of a tick. Menu states do
+ * not change while they are shown, so they are drawn directly; the table of a
+ * playing state is captured into a {@link TableSnapshot}.
+ *
+ * @author Ishan Pranav
+ */
+final class GameSnapshot implements Rasterizable
+{
+    private final TableSnapshot _table = new TableSnapshot();
+
+    private Drawable _state;
+
+    GameSnapshot()
+    {
+    }
+
+    final void capture(Drawable state)
+    {
+        if (state instanceof GameState)
+        {
+            ((GameState)state).capture(this._table);
+
+            this._state = this._table;
+        }
+        else
+        {
+            this._state = state;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void draw(Graphics2D graphics2D)
+    {
+        graphics2D.setColor(Color.white);
+
+        this._state.draw(graphics2D);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void rasterize(PixelCanvas canvas)
+    {
+        if (this._state instanceof Rasterizable)
+        {
+            ((Rasterizable)this._state).rasterize(canvas);
+        }
+        else
+        {
+            this.draw(canvas.getGraphics2D());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void update()
+    {
+    }
+}
@@ -1,5 +1,8 @@
 package breakout.application.windows;
 
+import java.io.IOException;
+
+import breakout.Table;
 import pong.application.BundleResourceProvider;
 
 /**
@@ -14,12 +17,105 @@ public final class Program
     }
 
     /**
-     * Provides the main entry point for the application.
+     * Provides the main entry point for the application. The {@code -concurrent}
+     * argument renders on a separate thread from the simulation. The
+     * {@code -dirty} argument repaints only the changed regions of the canvas.
+     * The {@code -software} argument draws the table directly into pixels.
+     * The {@code -log} argument, followed by a path, appends frame statistics to
+     * a log file once per second. The {@code -record} argument, followed by a
+     * path, records the input of each game into a file for replay. The
+     * {@code -ticks} and {@code -renders} arguments, each followed by a rate in
+     * frames per second, set the tick rate of the simulation and the maximum
+     * render rate; both default to 60. Moving objects are drawn between ticks,
+     * so a low tick rate still renders smoothly. The {@code -maxticks}
+     * argument, followed by a count, limits the ticks run to catch up between
+     * two renders, and the {@code -frameskip} argument, followed by a count,
+     * allows that many consecutive renders to be skipped while the game is
+     * behind.
      *
      * @param args The application arguments.
+     * @throws IOException An I/O error occurred while opening the log file.
      */
-    public static void main(String[] args)
+    public static void main(String[] args) throws IOException
     {
-        new Game(new BundleResourceProvider("breakout.application.Resources")).start();
+        boolean concurrent = false;
+        boolean dirty = false;
+        boolean software = false;
+        String log = null;
+        String record = null;
+        int ticksPerSecond = Table.TICKS_PER_SECOND;
+        int rendersPerSecond = 60;
+        int maxTicksPerFrame = -1;
+        int maxSkippedRenders = 0;
+
+        for (int i = 0; i < args.length; i++)
+        {
+            if (args[i].equals("-concurrent"))
+            {
+                concurrent = true;
+            }
+            else if (args[i].equals("-dirty"))
+            {
+                dirty = true;
+            }
+            else if (args[i].equals("-software"))
+            {
+                software = true;
+            }
+            else if (args[i].equals("-log") && i + 1 < args.length)
+            {
+                i++;
+                log = args[i];
+            }
+            else if (args[i].equals("-record") && i + 1 < args.length)
+            {
+                i++;
+                record = args[i];
+            }
+            else if (args[i].equals("-ticks") && i + 1 < args.length)
+            {
+                i++;
+                ticksPerSecond = Integer.parseInt(args[i]);
+            }
+            else if (args[i].equals("-renders") && i + 1 < args.length)
+            {
+                i++;
+                rendersPerSecond = Integer.parseInt(args[i]);
+            }
+            else if (args[i].equals("-maxticks") && i + 1 < args.length)
+            {
+                i++;
+                maxTicksPerFrame = Integer.parseInt(args[i]);
+            }
+            else if (args[i].equals("-frameskip") && i + 1 < args.length)
+            {
+                i++;
+                maxSkippedRenders = Integer.parseInt(args[i]);
+            }
+        }
+
+        final Game game = new Game(new BundleResourceProvider("breakout.application.Resources"), concurrent,
+                ticksPerSecond, rendersPerSecond);
+
+        game.setDirtyRendering(dirty);
+        game.setSoftwareRendering(software);
+        game.setMaxSkippedRenders(maxSkippedRenders);
+
+        if (maxTicksPerFrame > 0)
+        {
+            game.setMaxTicksPerFrame(maxTicksPerFrame);
+        }
+
+        if (log != null)
+        {
+            game.setStatisticsLog(log);
+        }
+
+        if (record != null)
+        {
+            game.setInputLog(record);
+        }
+
+        game.start();
     }
 }
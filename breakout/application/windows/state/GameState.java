@@ -4,7 +4,10 @@ import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
 
 import breakout.Table;
-import pong.Drawable;
+import breakout.TableSnapshot;
+import pong.Rasterizable;
+import pong.application.windows.DirtyRegion;
+import pong.application.windows.PixelCanvas;
 
 /**
  * Defines the core behavior of a game state and provides a base for derived
@@ -12,7 +15,7 @@ import pong.Drawable;
  *
  * @author Ishan Pranav
  */
-public abstract class GameState implements Drawable
+public abstract class GameState implements Rasterizable
 {
     private final GameContext _context;
     private final Table _table;
@@ -29,6 +32,27 @@ public abstract class GameState implements Drawable
         this._context = context;
     }
 
+    /**
+     * Captures the drawable state of the table.
+     *
+     * @param snapshot The snapshot into which to capture the state.
+     */
+    public final void capture(TableSnapshot snapshot)
+    {
+        snapshot.capture(this._table);
+    }
+
+    /**
+     * Adds the regions of the table that may have changed since the previous
+     * call to a dirty region.
+     *
+     * @param region The dirty region.
+     */
+    public final void damage(DirtyRegion region)
+    {
+        this._table.damage(region);
+    }
+
     /** {@inheritDoc} */
     @Override
     public final void draw(Graphics2D graphics2D)
@@ -36,6 +60,16 @@ public abstract class GameState implements Drawable
         this._table.draw(graphics2D);
     }
 
+    /**
+     * Gets the score of the table.
+     *
+     * @return The score.
+     */
+    public final int getScore()
+    {
+        return this._table.getScore();
+    }
+
     /**
      * Gets the table.
      *
@@ -56,6 +90,34 @@ public abstract class GameState implements Drawable
      */
     protected abstract void moveRight();
 
+    /** {@inheritDoc} */
+    @Override
+    public final void rasterize(PixelCanvas canvas)
+    {
+        this._table.rasterize(canvas);
+    }
+
+    /**
+     * Sets the fraction of a tick that has elapsed since the most recent
+     * update, at which the moving entities of the table are drawn.
+     *
+     * @param value The fraction, from zero to one.
+     */
+    public final void setInterpolation(double value)
+    {
+        this._table.setInterpolation(value);
+    }
+
+    /**
+     * Stores the positions of the moving entities of the table as the
+     * positions from which drawing interpolates. This method should be called
+     * at the start of each tick.
+     */
+    public final void storePositions()
+    {
+        this._table.storePositions();
+    }
+
     /** {@inheritDoc} */
     @Override
     public void update()
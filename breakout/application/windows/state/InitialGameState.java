@@ -4,6 +4,7 @@ import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
 
 import pong.Drawable;
+import pong.StaticDrawable;
 import pong.application.ResourceProvider;
 import pong.application.windows.CenteredStringDrawingContext;
 
@@ -14,9 +15,14 @@ import pong.application.windows.CenteredStringDrawingContext;
  *
  * @author Ishan Pranav
  */
-public class InitialGameState implements Drawable
+public class InitialGameState implements StaticDrawable
 {
     private final GameContext _context;
+    private final String[] _titleSegments;
+    private final String _observerText;
+    private final String _singleplayerText;
+    private final String _instructionText;
+    private final CenteredStringDrawingContext _stringDrawingContext;
 
     /**
      * Initializes a new instance of the {@link InitialGameState} class.
@@ -25,33 +31,39 @@ public class InitialGameState implements Drawable
      */
     public InitialGameState(GameContext context)
     {
+        final ResourceProvider resources = context.getResources();
+
         this._context = context;
+        this._titleSegments = resources.getTitleSegments();
+        this._observerText = resources.getObserverText();
+        this._singleplayerText = resources.getSingleplayerText();
+        this._instructionText = resources.getInstructionText();
+        this._stringDrawingContext = new CenteredStringDrawingContext(null, context.getWidth(), 75);
     }
 
     /** {@inheritDoc} */
     @Override
     public final void draw(Graphics2D graphics2D)
     {
-        final ResourceProvider resources = this._context.getResources();
-        final String[] titleSegments = resources.getTitleSegments();
-        final CenteredStringDrawingContext stringDrawingContext = new CenteredStringDrawingContext(graphics2D,
-                this._context.getWidth(), 75);
+        final CenteredStringDrawingContext stringDrawingContext = this._stringDrawingContext;
 
+        stringDrawingContext.setGraphics2D(graphics2D);
+        stringDrawingContext.setVerticalPosition(75);
         stringDrawingContext.setSize(25);
         stringDrawingContext.setMargin(-1d / 3);
 
-        stringDrawingContext.draw(titleSegments[0]);
+        stringDrawingContext.draw(this._titleSegments[0]);
 
         stringDrawingContext.setSize(100);
         stringDrawingContext.setMargin(1d / 3);
 
-        stringDrawingContext.draw(titleSegments[1]);
+        stringDrawingContext.draw(this._titleSegments[1]);
 
         stringDrawingContext.setSize(20);
 
-        stringDrawingContext.draw(resources.getObserverText());
-        stringDrawingContext.draw(resources.getSingleplayerText());
-        stringDrawingContext.draw(resources.getInstructionText());
+        stringDrawingContext.draw(this._observerText);
+        stringDrawingContext.draw(this._singleplayerText);
+        stringDrawingContext.draw(this._instructionText);
     }
 
     /** {@inheritDoc} */
@@ -3,7 +3,7 @@ package breakout.application.windows.state;
 import java.awt.Graphics2D;
 
 import pong.Drawable;
-import pong.application.ResourceProvider;
+import pong.StaticDrawable;
 import pong.application.windows.CenteredStringDrawingContext;
 
 /**
@@ -13,9 +13,10 @@ import pong.application.windows.CenteredStringDrawingContext;
  *
  * @author Ishan Pranav
  */
-public class InstructionGameState implements Drawable
+public class InstructionGameState implements StaticDrawable
 {
-    private final GameContext _context;
+    private final String _instructions;
+    private final CenteredStringDrawingContext _stringDrawingContext;
 
     /**
      * Initializes a new instance of the {@link InstructionGameState} class.
@@ -24,22 +25,20 @@ public class InstructionGameState implements Drawable
      */
     public InstructionGameState(GameContext context)
     {
-        this._context = context;
+        this._instructions = context.getResources().getInstructions();
+        this._stringDrawingContext = new CenteredStringDrawingContext(null, context.getWidth(), 40);
+
+        this._stringDrawingContext.setMargin(1d / 3);
+        this._stringDrawingContext.setSize(20);
     }
 
     /** {@inheritDoc} */
     @Override
     public final void draw(Graphics2D graphics2D)
     {
-        final ResourceProvider resources = this._context.getResources();
-        final CenteredStringDrawingContext stringDrawingContext = new CenteredStringDrawingContext(graphics2D,
-                this._context.getWidth(), 40);
-
-        stringDrawingContext.setSize(100);
-        stringDrawingContext.setMargin(1d / 3);
-        stringDrawingContext.setSize(20);
-
-        stringDrawingContext.draw(resources.getInstructions());
+        this._stringDrawingContext.setGraphics2D(graphics2D);
+        this._stringDrawingContext.setVerticalPosition(40);
+        this._stringDrawingContext.draw(this._instructions);
     }
 
     /** {@inheritDoc} */
@@ -3,6 +3,7 @@ package breakout.application.windows.state;
 import java.awt.Graphics2D;
 
 import pong.Drawable;
+import pong.StaticDrawable;
 import pong.application.ResourceProvider;
 import pong.application.windows.CenteredStringDrawingContext;
 
@@ -13,10 +14,11 @@ import pong.application.windows.CenteredStringDrawingContext;
  *
  * @author Ishan Pranav
  */
-public class TerminalGameState implements Drawable
+public class TerminalGameState implements StaticDrawable
 {
-    private final GameContext _context;
-    private final boolean _victory;
+    private final String _text;
+    private final String _exitText;
+    private final CenteredStringDrawingContext _stringDrawingContext;
 
     /**
      * Initializes a new instance of the {@link TerminalGameState} class.
@@ -27,29 +29,29 @@ public class TerminalGameState implements Drawable
      */
     public TerminalGameState(GameContext context, boolean victory)
     {
-        this._context = context;
-        this._victory = victory;
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final void draw(Graphics2D graphics2D)
-    {
-        final ResourceProvider resources = this._context.getResources();
-
-        final CenteredStringDrawingContext stringDrawingContext = new CenteredStringDrawingContext(graphics2D,
-                this._context.getWidth(), 75);
+        final ResourceProvider resources = context.getResources();
 
-        if (this._victory)
+        if (victory)
         {
-            stringDrawingContext.draw(resources.getVictoryText());
+            this._text = resources.getVictoryText();
         }
         else
         {
-            stringDrawingContext.draw(resources.getDefeatText());
+            this._text = resources.getDefeatText();
         }
 
-        stringDrawingContext.draw(resources.getExitText());
+        this._exitText = resources.getExitText();
+        this._stringDrawingContext = new CenteredStringDrawingContext(null, context.getWidth(), 75);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void draw(Graphics2D graphics2D)
+    {
+        this._stringDrawingContext.setGraphics2D(graphics2D);
+        this._stringDrawingContext.setVerticalPosition(75);
+        this._stringDrawingContext.draw(this._text);
+        this._stringDrawingContext.draw(this._exitText);
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,123 @@
+package pong;
+
+/**
+ * Provides methods for axis-aligned bounding boxes described by primitive
+ * integer coordinates. A box is given by its horizontal position, vertical
+ * position, width and height. Boxes that only touch do not intersect, and an
+ * empty box intersects nothing. None of the methods allocate.
+ *
+ * @author Ishan Pranav
+ */
+public final class AxisAlignedBoxes
+{
+    private AxisAlignedBoxes()
+    {
+    }
+
+    /**
+     * Gets the fraction of a displacement after which a moving interval first
+     * overlaps a stationary interval along one axis.
+     *
+     * @param start        The start of the moving interval.
+     * @param length       The length of the moving interval.
+     * @param displacement The displacement of the moving interval.
+     * @param otherStart   The start of the stationary interval.
+     * @param otherLength  The length of the stationary interval.
+     * @return The entry time as a 16.16 fixed-point number, rounded toward
+     *         negative infinity. If the displacement is zero, the entry time is
+     *         {@link Integer#MIN_VALUE} if the intervals overlap and
+     *         {@link Integer#MAX_VALUE} otherwise.
+     */
+    public static int getEntryTime(int start, int length, int displacement, int otherStart, int otherLength)
+    {
+        if (displacement > 0)
+        {
+            return FixedPoint.divide(otherStart - start - length, displacement);
+        }
+
+        if (displacement < 0)
+        {
+            return FixedPoint.divide(otherStart + otherLength - start, displacement);
+        }
+
+        if (getOverlap(start, length, otherStart, otherLength) > 0)
+        {
+            return Integer.MIN_VALUE;
+        }
+
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the fraction of a displacement after which a moving interval last
+     * overlaps a stationary interval along one axis.
+     *
+     * @param start        The start of the moving interval.
+     * @param length       The length of the moving interval.
+     * @param displacement The displacement of the moving interval.
+     * @param otherStart   The start of the stationary interval.
+     * @param otherLength  The length of the stationary interval.
+     * @return The exit time as a 16.16 fixed-point number, rounded toward
+     *         negative infinity. If the displacement is zero, the exit time is
+     *         {@link Integer#MAX_VALUE} if the intervals overlap and
+     *         {@link Integer#MIN_VALUE} otherwise.
+     */
+    public static int getExitTime(int start, int length, int displacement, int otherStart, int otherLength)
+    {
+        if (displacement > 0)
+        {
+            return FixedPoint.divide(otherStart + otherLength - start, displacement);
+        }
+
+        if (displacement < 0)
+        {
+            return FixedPoint.divide(otherStart - start - length, displacement);
+        }
+
+        if (getOverlap(start, length, otherStart, otherLength) > 0)
+        {
+            return Integer.MAX_VALUE;
+        }
+
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * Gets the length of the overlap of two intervals along one axis. This is
+     * the depth by which two boxes overlap along that axis.
+     *
+     * @param start       The start of the first interval.
+     * @param length      The length of the first interval.
+     * @param otherStart  The start of the second interval.
+     * @param otherLength The length of the second interval.
+     * @return The length of the overlap, or zero if the intervals do not
+     *         overlap.
+     */
+    public static int getOverlap(int start, int length, int otherStart, int otherLength)
+    {
+        return Math.max(0, Math.min(start + length, otherStart + otherLength) - Math.max(start, otherStart));
+    }
+
+    /**
+     * Determines whether two boxes intersect.
+     *
+     * @param horizontalPosition      The horizontal position of the first box.
+     * @param verticalPosition        The vertical position of the first box.
+     * @param width                   The width of the first box.
+     * @param height                  The height of the first box.
+     * @param otherHorizontalPosition The horizontal position of the second box.
+     * @param otherVerticalPosition   The vertical position of the second box.
+     * @param otherWidth              The width of the second box.
+     * @param otherHeight             The height of the second box.
+     * @return {@code true} if the boxes intersect; otherwise, {@code false}.
+     */
+    public static boolean intersects(int horizontalPosition, int verticalPosition, int width, int height,
+            int otherHorizontalPosition, int otherVerticalPosition, int otherWidth, int otherHeight)
+    {
+        return width > 0 && height > 0 && otherWidth > 0 && otherHeight > 0
+                && horizontalPosition < otherHorizontalPosition + otherWidth
+                && verticalPosition < otherVerticalPosition + otherHeight
+                && otherHorizontalPosition < horizontalPosition + width
+                && otherVerticalPosition < verticalPosition + height;
+    }
+}
@@ -62,6 +62,16 @@ public enum Direction
      */
     public static Direction fromVector(double value)
     {
-        return values()[(int)Math.signum(value) + 1];
+        if (value < 0)
+        {
+            return NEGATIVE;
+        }
+
+        if (value > 0)
+        {
+            return POSITIVE;
+        }
+
+        return NONE;
     }
 }
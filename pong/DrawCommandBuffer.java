@@ -0,0 +1,271 @@
+package pong;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.util.Arrays;
+
+import pong.application.windows.PixelCanvas;
+
+/**
+ * Represents a buffer of rectangle fill commands. Entities write rectangles
+ * into the buffer without knowing how they will be rendered; the buffer stores
+ * each command in parallel primitive arrays, with its color as an index into a
+ * palette. When the buffer is flushed to a {@link Graphics2D}, the commands are
+ * bucketed by color so that the color changes only once per palette entry.
+ * Commands of the same color keep their relative order. When the buffer is
+ * flushed to a {@link PixelCanvas}, the commands are written directly into its
+ * pixels in order. Writing and flushing commands does not allocate once the
+ * arrays are large enough.
+ *
+ * @author Ishan Pranav
+ */
+public final class DrawCommandBuffer
+{
+    private static final int PALETTE_CAPACITY = 256;
+
+    private int[] _horizontalPositions = new int[64];
+    private int[] _verticalPositions = new int[64];
+    private int[] _widths = new int[64];
+    private int[] _heights = new int[64];
+    private int[] _colors = new int[64];
+    private int[] _order = new int[64];
+    private Color[] _palette = new Color[16];
+    private int[] _rgbs = new int[16];
+    private int[] _offsets = new int[16];
+    private int _count;
+    private int _paletteSize;
+
+    /**
+     * Initializes a new instance of the {@link DrawCommandBuffer} class.
+     */
+    public DrawCommandBuffer()
+    {
+    }
+
+    /**
+     * Removes all commands from the buffer.
+     */
+    public final void clear()
+    {
+        this._count = 0;
+
+        if (this._paletteSize > PALETTE_CAPACITY)
+        {
+            this._paletteSize = 0;
+        }
+    }
+
+    /**
+     * Adds a command that fills a rectangle with a color.
+     *
+     * @param horizontalPosition The horizontal position of the rectangle.
+     * @param verticalPosition   The vertical position of the rectangle.
+     * @param width              The width of the rectangle.
+     * @param height             The height of the rectangle.
+     * @param color              The color.
+     */
+    public final void fill(int horizontalPosition, int verticalPosition, int width, int height, Color color)
+    {
+        this.fill(horizontalPosition, verticalPosition, width, height, this.indexOf(color));
+    }
+
+    /**
+     * Adds a command that fills a rectangle with a palette entry.
+     *
+     * @param horizontalPosition The horizontal position of the rectangle.
+     * @param verticalPosition   The vertical position of the rectangle.
+     * @param width              The width of the rectangle.
+     * @param height             The height of the rectangle.
+     * @param color              The zero-based index of the color in the
+     *                           palette, as returned by {@link #indexOf(Color)}.
+     */
+    public final void fill(int horizontalPosition, int verticalPosition, int width, int height, int color)
+    {
+        final int i = this._count;
+
+        if (i == this._colors.length)
+        {
+            this._horizontalPositions = Arrays.copyOf(this._horizontalPositions, i * 2);
+            this._verticalPositions = Arrays.copyOf(this._verticalPositions, i * 2);
+            this._widths = Arrays.copyOf(this._widths, i * 2);
+            this._heights = Arrays.copyOf(this._heights, i * 2);
+            this._colors = Arrays.copyOf(this._colors, i * 2);
+            this._order = new int[i * 2];
+        }
+
+        this._horizontalPositions[i] = horizontalPosition;
+        this._verticalPositions[i] = verticalPosition;
+        this._widths[i] = width;
+        this._heights[i] = height;
+        this._colors[i] = color;
+        this._count++;
+    }
+
+    /**
+     * Draws the commands in the buffer, one color at a time.
+     *
+     * @param graphics2D The two-dimensional graphics.
+     */
+    public final void flush(Graphics2D graphics2D)
+    {
+        final int[] offsets = this._offsets;
+
+        Arrays.fill(offsets, 0, this._paletteSize, 0);
+
+        for (int i = 0; i < this._count; i++)
+        {
+            offsets[this._colors[i]]++;
+        }
+
+        int offset = 0;
+
+        for (int color = 0; color < this._paletteSize; color++)
+        {
+            final int count = offsets[color];
+
+            offsets[color] = offset;
+            offset += count;
+        }
+
+        for (int i = 0; i < this._count; i++)
+        {
+            this._order[offsets[this._colors[i]]++] = i;
+        }
+
+        int start = 0;
+
+        for (int color = 0; color < this._paletteSize; color++)
+        {
+            final int end = offsets[color];
+
+            if (end > start)
+            {
+                graphics2D.setColor(this._palette[color]);
+
+                for (int j = start; j < end; j++)
+                {
+                    final int i = this._order[j];
+
+                    graphics2D.fillRect(this._horizontalPositions[i], this._verticalPositions[i], this._widths[i],
+                            this._heights[i]);
+                }
+            }
+
+            start = end;
+        }
+    }
+
+    /**
+     * Draws the commands in the buffer directly into the pixels of a canvas, in
+     * the order in which they were added. The alpha components of the colors are
+     * ignored.
+     *
+     * @param canvas The pixel canvas.
+     */
+    public final void flush(PixelCanvas canvas)
+    {
+        for (int i = 0; i < this._count; i++)
+        {
+            canvas.fill(this._horizontalPositions[i], this._verticalPositions[i], this._widths[i], this._heights[i],
+                    this._rgbs[this._colors[i]]);
+        }
+    }
+
+    /**
+     * Gets the color of a command.
+     *
+     * @param index The zero-based position of the command.
+     * @return The color.
+     */
+    public final Color getColor(int index)
+    {
+        return this._palette[this._colors[index]];
+    }
+
+    /**
+     * Gets the number of commands in the buffer.
+     *
+     * @return The number of commands.
+     */
+    public final int getCount()
+    {
+        return this._count;
+    }
+
+    /**
+     * Gets the height of the rectangle of a command.
+     *
+     * @param index The zero-based position of the command.
+     * @return The height.
+     */
+    public final int getHeight(int index)
+    {
+        return this._heights[index];
+    }
+
+    /**
+     * Gets the horizontal position of the rectangle of a command.
+     *
+     * @param index The zero-based position of the command.
+     * @return The horizontal position.
+     */
+    public final int getHorizontalPosition(int index)
+    {
+        return this._horizontalPositions[index];
+    }
+
+    /**
+     * Gets the vertical position of the rectangle of a command.
+     *
+     * @param index The zero-based position of the command.
+     * @return The vertical position.
+     */
+    public final int getVerticalPosition(int index)
+    {
+        return this._verticalPositions[index];
+    }
+
+    /**
+     * Gets the width of the rectangle of a command.
+     *
+     * @param index The zero-based position of the command.
+     * @return The width.
+     */
+    public final int getWidth(int index)
+    {
+        return this._widths[index];
+    }
+
+    /**
+     * Gets the position of a color in the palette, adding the color if
+     * necessary. The position remains valid until the buffer is cleared.
+     *
+     * @param color The color.
+     * @return The zero-based index of the color in the palette.
+     */
+    public final int indexOf(Color color)
+    {
+        int result = 0;
+
+        while (result < this._paletteSize && !this._palette[result].equals(color))
+        {
+            result++;
+        }
+
+        if (result == this._paletteSize)
+        {
+            if (result == this._palette.length)
+            {
+                this._palette = Arrays.copyOf(this._palette, result * 2);
+                this._rgbs = Arrays.copyOf(this._rgbs, result * 2);
+                this._offsets = new int[result * 2];
+            }
+
+            this._palette[result] = color;
+            this._rgbs[result] = color.getRGB();
+            this._paletteSize++;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,322 @@
+package pong;
+
+import java.awt.Graphics2D;
+import java.util.Arrays;
+
+/**
+ * Represents a collection of entities addressed by generational handles. This
+ * class defines the Composite Design Pattern.
+ * <p>
+ * Entities are stored densely and removed by swapping the last entity into the
+ * vacated position, so adding and removing are constant-time operations. A
+ * handle combines the slot of an entity with the generation of that slot; once
+ * the entity is removed, its handle is stale. Removals requested while the
+ * registry is being iterated are deferred until the outermost iteration ends.
+ *
+ * @param <T> The type of the entities.
+ * @author Ishan Pranav
+ */
+public final class EntityRegistry<T extends Entity> implements Entity
+{
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (Integer.SIZE - SLOT_BITS)) - 1;
+
+    private Entity[] _entities = new Entity[4];
+    private int[] _slots = new int[4];
+    private int[] _indices = new int[4];
+    private int[] _generations = new int[4];
+    private int[] _free = new int[4];
+    private int _size;
+    private int _slotCount;
+    private int _freeCount;
+    private int _iterations;
+    private int _removals;
+
+    /**
+     * Initializes a new instance of the {@link EntityRegistry} class.
+     */
+    public EntityRegistry()
+    {
+    }
+
+    /**
+     * Adds an entity to the registry.
+     *
+     * @param entity The entity.
+     * @return The handle of the entity.
+     */
+    public final int add(T entity)
+    {
+        final int slot;
+
+        if (this._freeCount > 0)
+        {
+            this._freeCount--;
+
+            slot = this._free[this._freeCount];
+        }
+        else
+        {
+            if (this._slotCount == this._indices.length)
+            {
+                if (this._slotCount > SLOT_MASK)
+                {
+                    throw new IllegalStateException();
+                }
+
+                this._indices = Arrays.copyOf(this._indices, this._slotCount * 2);
+                this._generations = Arrays.copyOf(this._generations, this._slotCount * 2);
+                this._free = Arrays.copyOf(this._free, this._slotCount * 2);
+            }
+
+            slot = this._slotCount;
+
+            this._slotCount++;
+        }
+
+        if (this._size == this._entities.length)
+        {
+            this._entities = Arrays.copyOf(this._entities, this._size * 2);
+            this._slots = Arrays.copyOf(this._slots, this._size * 2);
+        }
+
+        this._entities[this._size] = entity;
+        this._slots[this._size] = slot;
+        this._indices[slot] = this._size;
+        this._size++;
+
+        return this._generations[slot] << SLOT_BITS | slot;
+    }
+
+    /**
+     * Begins an iteration over the registry. Until the matching call to
+     * {@link #endIteration()}, removed entities keep their positions so that
+     * indices passed to {@link #get(int)} remain valid.
+     */
+    public final void beginIteration()
+    {
+        this._iterations++;
+    }
+
+    /**
+     * Removes all entities from the registry. Every outstanding handle becomes
+     * stale.
+     */
+    public final void clear()
+    {
+        for (int i = 0; i < this._size; i++)
+        {
+            final int slot = this._slots[i];
+
+            if (this._indices[slot] == i)
+            {
+                this.retire(slot);
+
+                this._removals++;
+            }
+        }
+
+        if (this._iterations == 0)
+        {
+            this.flush();
+        }
+    }
+
+    /**
+     * Determines whether a handle refers to an entity in the registry.
+     *
+     * @param handle The handle.
+     * @return {@code true} if the handle refers to an entity in the registry;
+     *         otherwise, {@code false}.
+     */
+    public final boolean contains(int handle)
+    {
+        final int slot = handle & SLOT_MASK;
+
+        return slot < this._slotCount && this._generations[slot] == handle >>> SLOT_BITS
+                && this._indices[slot] >= 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void draw(Graphics2D graphics2D)
+    {
+        this.beginIteration();
+
+        for (int i = 0; i < this._size; i++)
+        {
+            this._entities[i].draw(graphics2D);
+        }
+
+        this.endIteration();
+    }
+
+    /**
+     * Ends an iteration over the registry. When the outermost iteration ends,
+     * deferred removals take effect.
+     */
+    public final void endIteration()
+    {
+        this._iterations--;
+
+        if (this._iterations == 0 && this._removals > 0)
+        {
+            this.flush();
+        }
+    }
+
+    /**
+     * Ensures that the registry can hold a number of entities without
+     * allocating.
+     *
+     * @param capacity The number of entities.
+     */
+    public final void ensureCapacity(int capacity)
+    {
+        if (this._entities.length < capacity)
+        {
+            this._entities = Arrays.copyOf(this._entities, capacity);
+            this._slots = Arrays.copyOf(this._slots, capacity);
+        }
+
+        if (this._indices.length < capacity)
+        {
+            this._indices = Arrays.copyOf(this._indices, capacity);
+            this._generations = Arrays.copyOf(this._generations, capacity);
+            this._free = Arrays.copyOf(this._free, capacity);
+        }
+    }
+
+    private void flush()
+    {
+        for (int i = this._size - 1; i >= 0; i--)
+        {
+            if (this._indices[this._slots[i]] != i)
+            {
+                this.removeAt(i);
+            }
+        }
+
+        this._removals = 0;
+    }
+
+    /**
+     * Gets the handle of the entity at a given position.
+     *
+     * @param index The zero-based position of the entity.
+     * @return The handle returned when the entity was added.
+     */
+    public final int getHandle(int index)
+    {
+        final int slot = this._slots[index];
+
+        return this._generations[slot] << SLOT_BITS | slot;
+    }
+
+    /**
+     * Gets the entity at a given position.
+     *
+     * @param index The zero-based position of the entity.
+     * @return The entity.
+     */
+    @SuppressWarnings("unchecked")
+    public final T get(int index)
+    {
+        return (T)this._entities[index];
+    }
+
+    /**
+     * Removes the entity that a handle refers to.
+     *
+     * @param handle The handle.
+     * @return {@code true} if the entity was removed; otherwise, {@code false} if
+     *         the handle is stale.
+     */
+    public final boolean remove(int handle)
+    {
+        if (!this.contains(handle))
+        {
+            return false;
+        }
+
+        final int slot = handle & SLOT_MASK;
+        final int index = this._indices[slot];
+
+        this.retire(slot);
+
+        if (this._iterations == 0)
+        {
+            this.removeAt(index);
+        }
+        else
+        {
+            this._removals++;
+        }
+
+        return true;
+    }
+
+    private void removeAt(int index)
+    {
+        final int slot = this._slots[index];
+        final int last = this._size - 1;
+
+        if (index != last)
+        {
+            this._entities[index] = this._entities[last];
+            this._slots[index] = this._slots[last];
+            this._indices[this._slots[index]] = index;
+        }
+
+        this._entities[last] = null;
+        this._free[this._freeCount] = slot;
+        this._freeCount++;
+        this._size = last;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void reset()
+    {
+        this.beginIteration();
+
+        for (int i = 0; i < this._size; i++)
+        {
+            this._entities[i].reset();
+        }
+
+        this.endIteration();
+    }
+
+    private void retire(int slot)
+    {
+        this._generations[slot] = (this._generations[slot] + 1) & GENERATION_MASK;
+        this._indices[slot] = -1;
+    }
+
+    /**
+     * Gets the number of entities in the registry, including entities whose
+     * removal is deferred.
+     *
+     * @return The number of entities.
+     */
+    public final int size()
+    {
+        return this._size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void update()
+    {
+        this.beginIteration();
+
+        for (int i = 0; i < this._size; i++)
+        {
+            this._entities[i].update();
+        }
+
+        this.endIteration();
+    }
+}
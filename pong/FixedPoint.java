@@ -0,0 +1,104 @@
+package pong;
+
+/**
+ * Provides methods for 16.16 fixed-point numbers. A fixed-point number is an
+ * {@code int} whose upper sixteen bits hold the integer part and whose lower
+ * sixteen bits hold the fraction, so positions and velocities can move by
+ * fractions of a pixel while every operation stays exact integer arithmetic
+ * that gives the same result on every virtual machine.
+ *
+ * @author Ishan Pranav
+ */
+public final class FixedPoint
+{
+    /**
+     * Specifies the number of fractional bits.
+     */
+    public static final int SHIFT = 16;
+
+    /**
+     * Specifies the fixed-point representation of one.
+     */
+    public static final int ONE = 1 << SHIFT;
+
+    private FixedPoint()
+    {
+    }
+
+    /**
+     * Divides two fixed-point numbers. The quotient is rounded toward negative
+     * infinity and saturates at the range of an {@code int}.
+     *
+     * @param value   The dividend.
+     * @param divisor The divisor, which is not zero.
+     * @return The quotient.
+     */
+    public static int divide(int value, int divisor)
+    {
+        final long result = Math.floorDiv((long)value << SHIFT, divisor);
+
+        return (int)Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, result));
+    }
+
+    /**
+     * Converts a floating-point number to the nearest fixed-point number.
+     * Floating-point arithmetic is strict, so the result does not depend on the
+     * virtual machine.
+     *
+     * @param value The floating-point number.
+     * @return The fixed-point number.
+     */
+    public static int fromDouble(double value)
+    {
+        return (int)Math.round(value * ONE);
+    }
+
+    /**
+     * Converts an integer to a fixed-point number.
+     *
+     * @param value The integer.
+     * @return The fixed-point number.
+     */
+    public static int fromInt(int value)
+    {
+        return value << SHIFT;
+    }
+
+    /**
+     * Interpolates linearly between two fixed-point numbers.
+     *
+     * @param from     The value at a fraction of zero.
+     * @param to       The value at a fraction of one.
+     * @param fraction The fraction, from zero to {@link #ONE}.
+     * @return The interpolated value.
+     */
+    public static int interpolate(int from, int to, int fraction)
+    {
+        return from + multiply(to - from, fraction);
+    }
+
+    /**
+     * Multiplies two fixed-point numbers. The product is rounded toward negative
+     * infinity.
+     *
+     * @param value  The multiplicand.
+     * @param factor The multiplier.
+     * @return The product.
+     */
+    public static int multiply(int value, int factor)
+    {
+        return (int)((long)value * factor >> SHIFT);
+    }
+
+    /**
+     * Converts a fixed-point number to the greatest integer that is less than
+     * or equal to it. This is the pixel that contains the position.
+     *
+     * @param value The fixed-point number.
+     * @return The integer.
+     */
+    public static int toInt(int value)
+    {
+        return value >> SHIFT;
+    }
+}
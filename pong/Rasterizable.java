@@ -0,0 +1,20 @@
+package pong;
+
+import pong.application.windows.PixelCanvas;
+
+/**
+ * Defines methods for drawing entities directly into the pixels of a canvas.
+ *
+ * @author Ishan Pranav
+ */
+public interface Rasterizable extends Drawable
+{
+    /**
+     * Draws the entity into the pixels of a canvas. This method is called once
+     * per rendering operation instead of {@link #draw(java.awt.Graphics2D)} when
+     * the game engine renders in software.
+     *
+     * @param canvas The pixel canvas.
+     */
+    void rasterize(PixelCanvas canvas);
+}
@@ -0,0 +1,12 @@
+package pong;
+
+/**
+ * Defines a drawable whose appearance changes only in response to input, such
+ * as a menu or a message. A game engine draws such an entity once and then
+ * waits for input instead of updating and drawing it on every frame.
+ *
+ * @author Ishan Pranav
+ */
+public interface StaticDrawable extends Drawable
+{
+}
@@ -0,0 +1,194 @@
+package pong.application.windows;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+
+/**
+ * Represents a font together with the measurements of the strings drawn with
+ * it. Each string is measured once, and digits are pre-rendered into an atlas
+ * for each color so that numbers can be drawn without converting them to
+ * strings. The measurements and the atlases are taken with the font render
+ * context of the graphics drawn to, and are taken again whenever that context
+ * changes. This class is not thread-safe; each font belongs to one string
+ * drawing context.
+ *
+ * @author Ishan Pranav
+ */
+final class CachedFont
+{
+    private static final int CAPACITY = 256;
+    private static final int DIGITS = 10;
+
+    private final Font _font;
+    private final HashMap<String, Integer> _widths = new HashMap<String, Integer>();
+    private final HashMap<Color, BufferedImage> _atlases = new HashMap<Color, BufferedImage>();
+    private final int[] _digitWidths = new int[DIGITS];
+    private final int[] _digitOffsets = new int[DIGITS];
+
+    private FontRenderContext _fontRenderContext;
+    private FontMetrics _fontMetrics;
+    private BufferedImage _digits;
+    private Color _digitColor;
+
+    CachedFont(String name, int style, int size)
+    {
+        this._font = new Font(name, style, size);
+    }
+
+    final void draw(Graphics2D graphics2D, int value, int horizontalPosition, int verticalPosition)
+    {
+        final FontMetrics fontMetrics = this.getFontMetrics(graphics2D);
+        final Color color = graphics2D.getColor();
+
+        if (!color.equals(this._digitColor))
+        {
+            this._digits = this.getDigits(graphics2D, color);
+            this._digitColor = color;
+        }
+
+        final int top = verticalPosition - fontMetrics.getAscent();
+        final int bottom = top + this._digits.getHeight();
+        int divisor = 1;
+
+        while (value / divisor >= DIGITS)
+        {
+            divisor *= DIGITS;
+        }
+
+        while (divisor > 0)
+        {
+            final int digit = value / divisor % DIGITS;
+            final int width = this._digitWidths[digit];
+            final int offset = this._digitOffsets[digit];
+
+            graphics2D.drawImage(this._digits, horizontalPosition, top, horizontalPosition + width, bottom, offset, 0,
+                    offset + width, this._digits.getHeight(), null);
+
+            horizontalPosition += width;
+            divisor /= DIGITS;
+        }
+    }
+
+    private BufferedImage getDigits(Graphics2D graphics2D, Color color)
+    {
+        BufferedImage result = this._atlases.get(color);
+
+        if (result == null)
+        {
+            if (this._atlases.size() == CAPACITY)
+            {
+                this._atlases.clear();
+            }
+
+            result = this.render(graphics2D, color);
+
+            this._atlases.put(color, result);
+        }
+
+        return result;
+    }
+
+    final Font getFont()
+    {
+        return this._font;
+    }
+
+    private FontMetrics getFontMetrics(Graphics2D graphics2D)
+    {
+        final FontRenderContext fontRenderContext = graphics2D.getFontRenderContext();
+
+        if (this._fontMetrics == null || !fontRenderContext.equals(this._fontRenderContext))
+        {
+            this._fontRenderContext = fontRenderContext;
+            this._fontMetrics = graphics2D.getFontMetrics(this._font);
+            this._digits = null;
+            this._digitColor = null;
+
+            this._widths.clear();
+            this._atlases.clear();
+
+            int offset = 0;
+
+            for (int i = 0; i < DIGITS; i++)
+            {
+                this._digitWidths[i] = this._fontMetrics.charWidth('0' + i);
+                this._digitOffsets[i] = offset;
+
+                offset += this._digitWidths[i];
+            }
+        }
+
+        return this._fontMetrics;
+    }
+
+    final int getHeight(Graphics2D graphics2D)
+    {
+        return this.getFontMetrics(graphics2D).getHeight();
+    }
+
+    final int getWidth(Graphics2D graphics2D, int value)
+    {
+        this.getFontMetrics(graphics2D);
+
+        int result = 0;
+
+        do
+        {
+            result += this._digitWidths[value % DIGITS];
+            value /= DIGITS;
+        }
+        while (value > 0);
+
+        return result;
+    }
+
+    final int getWidth(Graphics2D graphics2D, String value)
+    {
+        final FontMetrics fontMetrics = this.getFontMetrics(graphics2D);
+        Integer result = this._widths.get(value);
+
+        if (result == null)
+        {
+            if (this._widths.size() == CAPACITY)
+            {
+                this._widths.clear();
+            }
+
+            result = fontMetrics.stringWidth(value);
+
+            this._widths.put(value, result);
+        }
+
+        return result;
+    }
+
+    private BufferedImage render(Graphics2D graphics2D, Color color)
+    {
+        final FontMetrics fontMetrics = this.getFontMetrics(graphics2D);
+        final int width = this._digitOffsets[DIGITS - 1] + this._digitWidths[DIGITS - 1];
+        final int height = fontMetrics.getAscent() + fontMetrics.getDescent();
+        final BufferedImage result = new BufferedImage(Math.max(1, width), Math.max(1, height),
+                BufferedImage.TYPE_INT_ARGB_PRE);
+        final Graphics2D atlas = result.createGraphics();
+
+        atlas.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                graphics2D.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING));
+        atlas.setFont(this._font);
+        atlas.setColor(color);
+
+        for (int i = 0; i < DIGITS; i++)
+        {
+            atlas.drawString(Character.toString((char)('0' + i)), this._digitOffsets[i], fontMetrics.getAscent());
+        }
+
+        atlas.dispose();
+
+        return result;
+    }
+}
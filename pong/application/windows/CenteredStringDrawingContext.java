@@ -1,6 +1,5 @@
 package pong.application.windows;
 
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 
 /**
@@ -48,21 +47,39 @@ public class CenteredStringDrawingContext extends StringDrawingContext
 
     /** {@inheritDoc} */
     @Override
-    protected void drawCore(String value)
+    protected void drawCore(int value)
     {
-        final Graphics2D graphics2D = this.getGraphics2D();
-        final FontMetrics fontMetrics = graphics2D.getFontMetrics();
+        final int height = this.getLineHeight();
+
+        this._verticalPosition += height;
 
-        final int height = fontMetrics.getHeight();
+        this.drawString(value, (this._width - this.getWidth(value)) / 2 + this._horizontalPosition,
+                this._verticalPosition);
+
+        this._verticalPosition += height * this._margin;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void drawCore(String value)
+    {
+        final int height = this.getLineHeight();
 
         this._verticalPosition += height;
 
-        graphics2D.drawString(value, (this._width - fontMetrics.stringWidth(value)) / 2 + this._horizontalPosition,
+        this.drawString(value, (this._width - this.getWidth(value)) / 2 + this._horizontalPosition,
                 this._verticalPosition);
 
         this._verticalPosition += height * this._margin;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public final int getVerticalPosition()
+    {
+        return this._verticalPosition;
+    }
+
     /**
      * Sets the margin.
      *
@@ -75,4 +92,11 @@ public class CenteredStringDrawingContext extends StringDrawingContext
     {
         this._margin = value;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void setVerticalPosition(int value)
+    {
+        this._verticalPosition = value;
+    }
 }
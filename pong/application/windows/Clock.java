@@ -0,0 +1,29 @@
+package pong.application.windows;
+
+/**
+ * Defines the source of time read by a game engine.
+ *
+ * @author Ishan Pranav
+ */
+public interface Clock
+{
+    /**
+     * Specifies the clock that reads {@link System#nanoTime()}.
+     */
+    Clock SYSTEM = new Clock()
+    {
+        @Override
+        public long nanoTime()
+        {
+            return System.nanoTime();
+        }
+    };
+
+    /**
+     * Gets the current time. Only the difference between two times is
+     * meaningful.
+     *
+     * @return The current time, in nanoseconds.
+     */
+    long nanoTime();
+}
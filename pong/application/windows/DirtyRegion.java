@@ -0,0 +1,207 @@
+package pong.application.windows;
+
+import java.awt.Rectangle;
+
+/**
+ * Represents the region of the canvas that must be repainted. The region is a
+ * small, bounded set of disjoint rectangles: a rectangle that overlaps another
+ * is merged with it, and once the set is full, a new rectangle is merged with
+ * the one it enlarges least. Adding rectangles does not allocate.
+ *
+ * @author Ishan Pranav
+ */
+public final class DirtyRegion
+{
+    private static final int CAPACITY = 8;
+
+    private final int[] _lefts = new int[CAPACITY];
+    private final int[] _tops = new int[CAPACITY];
+    private final int[] _rights = new int[CAPACITY];
+    private final int[] _bottoms = new int[CAPACITY];
+    private final int _width;
+    private final int _height;
+
+    private int _count;
+
+    DirtyRegion(int width, int height)
+    {
+        this._width = width;
+        this._height = height;
+    }
+
+    final void add(DirtyRegion region)
+    {
+        for (int i = 0; i < region._count; i++)
+        {
+            this.addCore(region._lefts[i], region._tops[i], region._rights[i], region._bottoms[i]);
+        }
+    }
+
+    /**
+     * Adds a rectangle to the region. The parts of the rectangle outside the
+     * canvas are ignored.
+     *
+     * @param horizontalPosition The horizontal position of the rectangle.
+     * @param verticalPosition   The vertical position of the rectangle.
+     * @param width              The width of the rectangle.
+     * @param height             The height of the rectangle.
+     */
+    public final void add(int horizontalPosition, int verticalPosition, int width, int height)
+    {
+        final int left = Math.max(0, horizontalPosition);
+        final int top = Math.max(0, verticalPosition);
+        final int right = Math.min(this._width, horizontalPosition + width);
+        final int bottom = Math.min(this._height, verticalPosition + height);
+
+        if (left < right && top < bottom)
+        {
+            this.addCore(left, top, right, bottom);
+        }
+    }
+
+    /**
+     * Adds a rectangle to the region. The parts of the rectangle outside the
+     * canvas are ignored.
+     *
+     * @param rectangle The rectangle.
+     */
+    public final void add(Rectangle rectangle)
+    {
+        this.add(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+    }
+
+    /**
+     * Adds the whole canvas to the region.
+     */
+    public final void addAll()
+    {
+        this._lefts[0] = 0;
+        this._tops[0] = 0;
+        this._rights[0] = this._width;
+        this._bottoms[0] = this._height;
+        this._count = 1;
+    }
+
+    private void addCore(int left, int top, int right, int bottom)
+    {
+        int index = -1;
+
+        for (int i = 0; i < this._count; i++)
+        {
+            if (this.overlaps(i, left, top, right, bottom))
+            {
+                index = i;
+
+                break;
+            }
+        }
+
+        if (index < 0 && this._count < CAPACITY)
+        {
+            this._lefts[this._count] = left;
+            this._tops[this._count] = top;
+            this._rights[this._count] = right;
+            this._bottoms[this._count] = bottom;
+            this._count++;
+        }
+        else
+        {
+            if (index < 0)
+            {
+                long least = Long.MAX_VALUE;
+
+                for (int i = 0; i < this._count; i++)
+                {
+                    final long growth = (long)(Math.max(right, this._rights[i]) - Math.min(left, this._lefts[i]))
+                            * (Math.max(bottom, this._bottoms[i]) - Math.min(top, this._tops[i])) - this.getArea(i);
+
+                    if (growth < least)
+                    {
+                        least = growth;
+                        index = i;
+                    }
+                }
+            }
+
+            this.merge(index, left, top, right, bottom);
+        }
+    }
+
+    final void clear()
+    {
+        this._count = 0;
+    }
+
+    /**
+     * Gets the number of pixels in the region.
+     *
+     * @return The area of the region.
+     */
+    public final long getArea()
+    {
+        long result = 0;
+
+        for (int i = 0; i < this._count; i++)
+        {
+            result += this.getArea(i);
+        }
+
+        return result;
+    }
+
+    private long getArea(int index)
+    {
+        return (long)(this._rights[index] - this._lefts[index]) * (this._bottoms[index] - this._tops[index]);
+    }
+
+    final int getBottom(int index)
+    {
+        return this._bottoms[index];
+    }
+
+    final int getCount()
+    {
+        return this._count;
+    }
+
+    final int getLeft(int index)
+    {
+        return this._lefts[index];
+    }
+
+    final int getRight(int index)
+    {
+        return this._rights[index];
+    }
+
+    final int getTop(int index)
+    {
+        return this._tops[index];
+    }
+
+    private void merge(int index, int left, int top, int right, int bottom)
+    {
+        left = Math.min(left, this._lefts[index]);
+        top = Math.min(top, this._tops[index]);
+        right = Math.max(right, this._rights[index]);
+        bottom = Math.max(bottom, this._bottoms[index]);
+
+        this.remove(index);
+        this.addCore(left, top, right, bottom);
+    }
+
+    private boolean overlaps(int index, int left, int top, int right, int bottom)
+    {
+        return left < this._rights[index] && this._lefts[index] < right && top < this._bottoms[index]
+                && this._tops[index] < bottom;
+    }
+
+    private void remove(int index)
+    {
+        this._count--;
+        this._lefts[index] = this._lefts[this._count];
+        this._tops[index] = this._tops[this._count];
+        this._rights[index] = this._rights[this._count];
+        this._bottoms[index] = this._bottoms[this._count];
+    }
+}
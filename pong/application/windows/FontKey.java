@@ -0,0 +1,69 @@
+package pong.application.windows;
+
+/**
+ * Represents the name, style and size that identify a cached font. A string
+ * drawing context looks fonts up with a single probe key that it changes in
+ * place, so a lookup does not allocate; the keys stored in the cache are
+ * copies and are never changed.
+ *
+ * @author Ishan Pranav
+ */
+final class FontKey
+{
+    private String _name;
+    private int _style;
+    private int _size;
+
+    FontKey(String name, int style, int size)
+    {
+        this.set(name, style, size);
+    }
+
+    final FontKey copy()
+    {
+        return new FontKey(this._name, this._style, this._size);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final boolean equals(Object obj)
+    {
+        if (!(obj instanceof FontKey))
+        {
+            return false;
+        }
+
+        final FontKey other = (FontKey)obj;
+
+        return this._name.equals(other._name) && this._style == other._style && this._size == other._size;
+    }
+
+    final String getName()
+    {
+        return this._name;
+    }
+
+    final int getSize()
+    {
+        return this._size;
+    }
+
+    final int getStyle()
+    {
+        return this._style;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int hashCode()
+    {
+        return (this._name.hashCode() * 31 + this._style) * 31 + this._size;
+    }
+
+    final void set(String name, int style, int size)
+    {
+        this._name = name;
+        this._style = style;
+        this._size = size;
+    }
+}
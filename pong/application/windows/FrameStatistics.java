@@ -0,0 +1,134 @@
+package pong.application.windows;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Date;
+
+/**
+ * Represents the frame-time and tick-time statistics of a game engine. Values
+ * are recorded into histograms without allocating; once per period, the
+ * statistics are summarized for the overlay, appended to the log (if any) and
+ * reset. The ticks dropped and the renders skipped because the game engine
+ * fell behind are reported per period and in total.
+ * <p>
+ * Update times may be recorded on a different thread from the other values.
+ * Summaries read the histograms without synchronization, so a summary taken
+ * while values are being recorded can miss a few of them.
+ *
+ * @author Ishan Pranav
+ */
+public final class FrameStatistics
+{
+    private static final long PERIOD_NANOSECONDS = 1000000000L;
+    private static final double NANOSECONDS_PER_MILLISECOND = 1e6;
+    private static final int FONT_SIZE = 12;
+
+    private final Histogram _update = new Histogram();
+    private final Histogram _render = new Histogram();
+    private final Histogram _show = new Histogram();
+    private final Histogram _ticks = new Histogram();
+    private final Histogram _pixels = new Histogram();
+    private final StringDrawingContext _stringDrawingContext = new LeftAlignedStringDrawingContext(null, 8, 0);
+
+    private long _periodDroppedTicks;
+    private long _periodSkippedRenders;
+    private PrintWriter _log;
+    private long _periodStart = System.nanoTime();
+    private String _summary = "";
+
+    FrameStatistics()
+    {
+        this._stringDrawingContext.setFontName("Monospaced");
+        this._stringDrawingContext.setSize(FONT_SIZE);
+    }
+
+    private static String count(String name, Histogram histogram)
+    {
+        return String.format("%-7s p50 %8d     p99 %8d     max %8d", name, histogram.getPercentile(50),
+                histogram.getPercentile(99), histogram.getMaximum());
+    }
+
+    final void damage(DirtyRegion region, int width)
+    {
+        region.add(0, 0, width, this._stringDrawingContext.getVerticalPosition() + FONT_SIZE);
+    }
+
+    final void draw(Graphics2D graphics2D)
+    {
+        graphics2D.setColor(Color.GREEN);
+        this._stringDrawingContext.setGraphics2D(graphics2D);
+        this._stringDrawingContext.setVerticalPosition(0);
+        this._stringDrawingContext.draw(this._summary);
+    }
+
+    private static String format(String name, Histogram histogram)
+    {
+        return String.format("%-7s p50 %8.3f ms  p99 %8.3f ms  max %8.3f ms", name,
+                histogram.getPercentile(50) / NANOSECONDS_PER_MILLISECOND,
+                histogram.getPercentile(99) / NANOSECONDS_PER_MILLISECOND,
+                histogram.getMaximum() / NANOSECONDS_PER_MILLISECOND);
+    }
+
+    final void recordPixels(long pixels)
+    {
+        this._pixels.record(pixels);
+    }
+
+    final void recordRender(long nanoseconds)
+    {
+        this._render.record(nanoseconds);
+    }
+
+    final void recordShow(long nanoseconds)
+    {
+        this._show.record(nanoseconds);
+    }
+
+    final void recordTicks(int ticks)
+    {
+        this._ticks.record(ticks);
+    }
+
+    final void recordUpdate(long nanoseconds)
+    {
+        this._update.record(nanoseconds);
+    }
+
+    final void roll(long now, long droppedTicks, long skippedRenders)
+    {
+        if (now - this._periodStart >= PERIOD_NANOSECONDS)
+        {
+            this._summary = format("update", this._update) + "\n" + format("render", this._render) + "\n"
+                    + format("show", this._show) + "\n" + count("ticks", this._ticks) + "\n"
+                    + count("pixels", this._pixels) + "\n"
+                    + String.format("%-7s dropped %5d ticks (%d total)  skipped %5d renders (%d total)", "lag",
+                            droppedTicks - this._periodDroppedTicks, droppedTicks,
+                            skippedRenders - this._periodSkippedRenders, skippedRenders);
+
+            if (this._log != null)
+            {
+                this._log.printf("%tF %<tT%n%s%n", new Date(), this._summary);
+                this._log.flush();
+            }
+
+            this._update.reset();
+            this._render.reset();
+            this._show.reset();
+            this._ticks.reset();
+            this._pixels.reset();
+
+            this._periodDroppedTicks = droppedTicks;
+            this._periodSkippedRenders = skippedRenders;
+
+            this._periodStart = now;
+        }
+    }
+
+    final void setLog(String path) throws IOException
+    {
+        this._log = new PrintWriter(new FileWriter(path, true));
+    }
+}
@@ -1,17 +1,25 @@
 package pong.application.windows;
 
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
 import java.awt.Canvas;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.ImageCapabilities;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.awt.geom.Path2D;
 import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
 
 import javax.swing.JFrame;
 import javax.swing.WindowConstants;
 
 import pong.Drawable;
+import pong.Rasterizable;
 
 /**
  * Defines the core behavior of a game engine and provides a base for derived
@@ -23,12 +31,22 @@ public abstract class GameDriverSlim extends Canvas implements Runnable, KeyList
 {
     private static final long serialVersionUID = -5325150234647333808L;
 
+    private static final long NANOSECONDS_PER_SECOND = 1000000000L;
+    private static final long SPIN_NANOSECONDS = 1000000L;
+    private static final int DEFAULT_MAX_TICKS_PER_FRAME = 5;
+
     /**
      * Specifies whether the canvas clears before rendering. This field is
      * serialized.
      */
     private final boolean _cleanCanvas;
 
+    /**
+     * Specifies whether rendering runs on its own thread. This field is
+     * serialized.
+     */
+    private final boolean _concurrent;
+
     /**
      * Specifies the window frame. This field is serialized.
      */
@@ -40,18 +58,137 @@ public abstract class GameDriverSlim extends Canvas implements Runnable, KeyList
      */
     private final int _framesPerSecond;
 
+    /**
+     * Specifies the maximum render rate of the game engine in frames per second,
+     * or zero if the game engine renders continuously. This field is serialized.
+     */
+    private final int _rendersPerSecond;
+
+    /**
+     * Specifies the maximum number of ticks run between two renders. This field
+     * is serialized.
+     */
+    private int _maxTicksPerFrame = DEFAULT_MAX_TICKS_PER_FRAME;
+
+    /**
+     * Specifies the maximum number of consecutive renders skipped while the
+     * game engine is behind. This field is serialized.
+     */
+    private int _maxSkippedRenders;
+
     /**
      * Specifies the state of each key. This field is serialized.
      */
     private final boolean[] _keysPressed;
 
+    /**
+     * Specifies the state of each key when the current tick began. This field
+     * is serialized.
+     */
+    private final boolean[] _latchedKeysPressed;
+
+    /**
+     * Specifies the frame statistics. This field is not serialized.
+     */
+    private final transient FrameStatistics _statistics = new FrameStatistics();
+
+    /**
+     * Specifies whether the frame statistics overlay is shown. This field is
+     * serialized.
+     */
+    private volatile boolean _overlay;
+
+    /**
+     * Specifies whether only the changed regions of the canvas are repainted.
+     * This field is serialized.
+     */
+    private boolean _dirtyRendering;
+
+    /**
+     * Specifies whether rasterizable games are drawn directly into pixels. This
+     * field is serialized.
+     */
+    private boolean _softwareRendering;
+
+    /**
+     * Specifies the pixels into which the game is drawn when rendering in
+     * software. This field is not serialized.
+     */
+    private transient PixelCanvas _pixelCanvas;
+
+    /**
+     * Specifies whether the canvas must be repainted in full. This field is not
+     * serialized.
+     */
+    private transient volatile boolean _exposed = true;
+
+    /**
+     * Specifies the wake-ups exchanged by the simulation and render threads.
+     * This field is not serialized.
+     */
+    private final transient RenderSignal _signal = new RenderSignal();
+
+    /**
+     * Specifies the policy that decides how many ticks run between two
+     * renders, or {@code null} if the game engine has not started. This field
+     * is not serialized.
+     */
+    private transient volatile TickScheduler _scheduler;
+
+    /**
+     * Specifies the image into which the scene is drawn when only the changed
+     * regions are repainted. This field is not serialized.
+     */
+    private transient BufferedImage _scene;
+
+    /**
+     * Specifies the graphics used to draw the scene. This field is not
+     * serialized.
+     */
+    private transient Graphics2D _sceneGraphics;
+
+    /**
+     * Specifies the union of the regions to repaint, used to clip the scene.
+     * This field is not serialized.
+     */
+    private transient Path2D _clip;
+
+    /**
+     * Specifies the regions damaged since the previous render. This field is not
+     * serialized.
+     */
+    private transient DirtyRegion _damage;
+
+    /**
+     * Specifies the regions damaged by the previous render. This field is not
+     * serialized.
+     */
+    private transient DirtyRegion _previousDamage;
+
+    /**
+     * Specifies the regions to repaint. This field is not serialized.
+     */
+    private transient DirtyRegion _dirty;
+
     /**
      * Called from constructors in derived classes. Called from constructors in
      * derived classes to initialize the {@link GameDriverSlim} class.
      */
     protected GameDriverSlim()
     {
-        this(60, true);
+        this(false);
+    }
+
+    /**
+     * Called from constructors in derived classes to initialize the
+     * {@link GameDriverSlim} class.
+     *
+     * @param concurrent {@code true} if rendering runs on its own thread;
+     *                   otherwise {@code false}.
+     */
+    protected GameDriverSlim(boolean concurrent)
+    {
+        this(60, 60, true, concurrent);
     }
 
     /**
@@ -64,10 +201,55 @@ public abstract class GameDriverSlim extends Canvas implements Runnable, KeyList
      *                        operation; otherwise {@code false}.
      */
     protected GameDriverSlim(int framesPerSecond, boolean cleanCanvas)
+    {
+        this(framesPerSecond, 0, cleanCanvas);
+    }
+
+    /**
+     * Called from constructors in derived classes to initialize the
+     * {@link GameDriverSlim} class.
+     *
+     * @param framesPerSecond  The frame rate of the game engine in frames per
+     *                         second.
+     * @param rendersPerSecond The maximum render rate of the game engine in
+     *                         frames per second. If this value is positive, the
+     *                         game engine sleeps between ticks and renders at most
+     *                         this many times per second; otherwise, the game
+     *                         engine renders continuously without sleeping.
+     * @param cleanCanvas      {@code true} if the canvas clears before each
+     *                         render operation; otherwise {@code false}.
+     */
+    protected GameDriverSlim(int framesPerSecond, int rendersPerSecond, boolean cleanCanvas)
+    {
+        this(framesPerSecond, rendersPerSecond, cleanCanvas, false);
+    }
+
+    /**
+     * Called from constructors in derived classes to initialize the
+     * {@link GameDriverSlim} class.
+     *
+     * @param framesPerSecond  The frame rate of the game engine in frames per
+     *                         second.
+     * @param rendersPerSecond The maximum render rate of the game engine in
+     *                         frames per second. If this value is positive, the
+     *                         game engine sleeps between ticks and renders at most
+     *                         this many times per second; otherwise, the game
+     *                         engine renders continuously without sleeping.
+     * @param cleanCanvas      {@code true} if the canvas clears before each
+     *                         render operation; otherwise {@code false}.
+     * @param concurrent       {@code true} if rendering runs on its own thread;
+     *                         otherwise {@code false}. Concurrent rendering
+     *                         requires a positive render rate and an override of
+     *                         {@link #createSnapshot()}.
+     */
+    protected GameDriverSlim(int framesPerSecond, int rendersPerSecond, boolean cleanCanvas, boolean concurrent)
     {
         this._framesPerSecond = framesPerSecond;
+        this._rendersPerSecond = rendersPerSecond;
         this._cleanCanvas = cleanCanvas;
+        this._concurrent = concurrent;
         this._keysPressed = new boolean[KeyEvent.KEY_LAST];
+        this._latchedKeysPressed = new boolean[KeyEvent.KEY_LAST];
 
         this.setSize(800, 600);
         this.addKeyListener(this);
@@ -75,6 +257,244 @@ public abstract class GameDriverSlim extends Canvas implements Runnable, KeyList
         this.setBackground(Color.BLACK);
     }
 
+    /**
+     * Captures the drawable state of the game into a snapshot. This method is
+     * called on the simulation thread after each batch of updates when
+     * rendering runs on its own thread.
+     *
+     * @param snapshot A snapshot previously returned by
+     *                 {@link #createSnapshot()}. The render thread is not using
+     *                 this snapshot.
+     */
+    protected void capture(Drawable snapshot)
+    {
+    }
+
+    /**
+     * Creates an empty snapshot of the drawable state of the game. A snapshot must
+     * not share mutable state with the game, since it is drawn on the render
+     * thread while the simulation thread continues to update the game.
+     *
+     * @return A new snapshot, or {@code null} if the game does not support
+     *         concurrent rendering.
+     */
+    protected Drawable createSnapshot()
+    {
+        return null;
+    }
+
+    /**
+     * Adds the regions of the canvas that may have changed since the previous
+     * call to a dirty region. This method is called before each render when
+     * only the changed regions are repainted. The regions damaged by the
+     * previous render are repainted as well, so an implementation only adds the
+     * current bounds of the moving parts of the game and the bounds of the
+     * parts that changed. The default implementation adds the whole canvas.
+     *
+     * @param region The dirty region.
+     */
+    protected void damage(DirtyRegion region)
+    {
+        region.addAll();
+    }
+
+    private long drawBuffered(Drawable drawable, BufferStrategy bufferStrategy)
+    {
+        final Graphics graphics = bufferStrategy.getDrawGraphics();
+
+        if (this._cleanCanvas)
+        {
+            graphics.setColor(this.getBackground());
+            graphics.fillRect(0, 0, this.getWidth(), this.getHeight());
+        }
+
+        drawable.draw((Graphics2D)graphics);
+
+        if (this._overlay)
+        {
+            this._statistics.draw((Graphics2D)graphics);
+        }
+
+        graphics.dispose();
+
+        return (long)this.getWidth() * this.getHeight();
+    }
+
+    private long drawSoftware(Rasterizable rasterizable, BufferStrategy bufferStrategy)
+    {
+        final int width = this.getWidth();
+        final int height = this.getHeight();
+
+        if (this._pixelCanvas == null || this._pixelCanvas.getWidth() != width
+                || this._pixelCanvas.getHeight() != height)
+        {
+            this._pixelCanvas = new PixelCanvas(width, height);
+        }
+
+        if (this._cleanCanvas)
+        {
+            this._pixelCanvas.clear(this.getBackground());
+        }
+
+        rasterizable.rasterize(this._pixelCanvas);
+
+        if (this._overlay)
+        {
+            this._statistics.draw(this._pixelCanvas.getGraphics2D());
+        }
+
+        final Graphics graphics = bufferStrategy.getDrawGraphics();
+
+        graphics.drawImage(this._pixelCanvas.getImage(), 0, 0, null);
+        graphics.dispose();
+
+        return (long)width * height;
+    }
+
+    private long drawDirty()
+    {
+        final int width = this.getWidth();
+        final int height = this.getHeight();
+
+        if (this._scene == null || this._scene.getWidth() != width || this._scene.getHeight() != height)
+        {
+            this._scene = this.getGraphicsConfiguration().createCompatibleImage(width, height);
+            this._sceneGraphics = this._scene.createGraphics();
+            this._clip = new Path2D.Float();
+            this._damage = new DirtyRegion(width, height);
+            this._previousDamage = new DirtyRegion(width, height);
+            this._dirty = new DirtyRegion(width, height);
+            this._exposed = true;
+        }
+
+        final DirtyRegion damage = this._damage;
+
+        damage.clear();
+        this.damage(damage);
+
+        if (this._overlay)
+        {
+            this._statistics.damage(damage, width);
+        }
+
+        this._dirty.clear();
+        this._dirty.add(this._previousDamage);
+        this._dirty.add(damage);
+
+        this._damage = this._previousDamage;
+        this._previousDamage = damage;
+
+        if (this._exposed || this._dirty.getArea() * 2 > (long)width * height)
+        {
+            this._exposed = false;
+
+            this._dirty.addAll();
+        }
+
+        final Graphics2D graphics = this._sceneGraphics;
+        final Path2D clip = this._clip;
+
+        clip.reset();
+        graphics.setClip(null);
+        graphics.setColor(this.getBackground());
+
+        for (int i = 0; i < this._dirty.getCount(); i++)
+        {
+            final int left = this._dirty.getLeft(i);
+            final int top = this._dirty.getTop(i);
+            final int right = this._dirty.getRight(i);
+            final int bottom = this._dirty.getBottom(i);
+
+            clip.moveTo(left, top);
+            clip.lineTo(right, top);
+            clip.lineTo(right, bottom);
+            clip.lineTo(left, bottom);
+            clip.closePath();
+
+            if (this._cleanCanvas)
+            {
+                graphics.fillRect(left, top, right - left, bottom - top);
+            }
+        }
+
+        graphics.setClip(clip);
+
+        this.draw(graphics);
+
+        if (this._overlay)
+        {
+            this._statistics.draw(graphics);
+        }
+
+        return this._dirty.getArea();
+    }
+
+    /**
+     * Gets the number of ticks dropped because the game engine fell behind. A
+     * tick is dropped when the ticks that are due exceed the maximum number of
+     * ticks per frame and no more renders may be skipped; the game then runs
+     * slower than real time instead of falling further behind.
+     *
+     * @return The total number of dropped ticks.
+     */
+    public final long getDroppedTicks()
+    {
+        final TickScheduler scheduler = this._scheduler;
+
+        if (scheduler == null)
+        {
+            return 0;
+        }
+
+        return scheduler.getDroppedTicks();
+    }
+
+    /**
+     * Gets the number of renders skipped to catch up with the ticks that are
+     * due.
+     *
+     * @return The total number of skipped renders.
+     */
+    public final long getSkippedRenders()
+    {
+        final TickScheduler scheduler = this._scheduler;
+
+        if (scheduler == null)
+        {
+            return 0;
+        }
+
+        return scheduler.getSkippedRenders();
+    }
+
+    private BufferStrategy getRenderStrategy()
+    {
+        if (this.getBufferStrategy() == null)
+        {
+            if (this._dirtyRendering)
+            {
+                // A blit strategy keeps the back buffer after each show, so
+                // only the dirty regions of the scene need to be copied.
+
+                try
+                {
+                    this.createBufferStrategy(2, new BufferCapabilities(new ImageCapabilities(true),
+                            new ImageCapabilities(true), null));
+                }
+                catch (final AWTException exception)
+                {
+                    this.createBufferStrategy(2);
+                }
+            }
+            else
+            {
+                this.createBufferStrategy(3);
+            }
+        }
+
+        return this.getBufferStrategy();
+    }
+
     /**
      * Gets the title of the window.
      *
@@ -85,10 +505,45 @@ public abstract class GameDriverSlim extends Canvas implements Runnable, KeyList
         return this._frame.getTitle();
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Sets the fraction of a tick that has elapsed since the most recent tick.
+     * This method is called before each render when rendering does not run on
+     * its own thread, so a game can draw its moving parts between their
+     * positions before and after the most recent tick. The default
+     * implementation does nothing.
+     *
+     * @param fraction The fraction, from zero inclusive to one exclusive.
+     */
+    protected void interpolate(double fraction)
+    {
+    }
+
+    /**
+     * Determines whether a key was pressed when the current tick began. The
+     * state of the keys is latched once per tick, so every call during an
+     * update sees the same input even if a key event arrives meanwhile.
+     *
+     * @param keyCode The key code.
+     * @return {@code true} if the key was pressed; otherwise {@code false}.
+     */
     public final boolean isPressed(int keyCode)
     {
-        return this._keysPressed[keyCode];
+        return this._latchedKeysPressed[keyCode];
+    }
+
+    /**
+     * Determines whether the game looks the same until a key or paint event
+     * arrives. After rendering a static game, the game engine neither updates
+     * nor renders it again until the next event, so a menu or a message uses
+     * almost no processor time. This method is called on the simulation thread
+     * after each batch of updates. The default implementation returns
+     * {@code false}.
+     *
+     * @return {@code true} if the game is static; otherwise, {@code false}.
+     */
+    protected boolean isStatic()
+    {
+        return false;
     }
 
     /** {@inheritDoc} */
@@ -96,6 +551,8 @@ public abstract class GameDriverSlim extends Canvas implements Runnable, KeyList
     public void keyPressed(KeyEvent e)
     {
         this._keysPressed[e.getKeyCode()] = true;
+
+        this._signal.signal();
     }
 
     /** {@inheritDoc} */
@@ -103,6 +560,8 @@ public abstract class GameDriverSlim extends Canvas implements Runnable, KeyList
     public void keyReleased(KeyEvent e)
     {
         this._keysPressed[e.getKeyCode()] = false;
+
+        this._signal.signal();
     }
 
     /** {@inheritDoc} */
@@ -111,57 +570,232 @@ public abstract class GameDriverSlim extends Canvas implements Runnable, KeyList
     {
     }
 
-    private void render()
+    private void loop(TickScheduler scheduler, RenderTarget target)
     {
-        BufferStrategy bufferStrategy = this.getBufferStrategy();
+        int ticks = 0;
 
-        if (bufferStrategy == null)
+        while (true)
         {
-            this.createBufferStrategy(3);
-            bufferStrategy = this.getBufferStrategy();
+            final int events = this._signal.getEvents();
+            final long now = scheduler.now();
+
+            while (scheduler.isDue(now))
+            {
+                this.tick();
+
+                scheduler.tick();
+                ticks++;
+            }
+
+            if (scheduler.skipRender(now))
+            {
+                continue;
+            }
+
+            if (target.isDue(now, ticks))
+            {
+                target.render(now, ticks);
+
+                ticks = 0;
+
+                scheduler.render();
+
+                if (this.isStatic())
+                {
+                    target.waitForEvent(events);
+                    scheduler.reset(scheduler.now());
+                    target.reset(scheduler.getNextTick());
+
+                    continue;
+                }
+            }
+
+            waitUntil(target.getWakeUp(scheduler.getNextTick()));
         }
+    }
 
-        final Graphics graphics = bufferStrategy.getDrawGraphics();
+    /**
+     * Records that the canvas must be repainted in full and wakes the game
+     * engine if it is waiting for an event. The scene is drawn only by the game
+     * engine thread, so this method does not draw.
+     *
+     * @param g The graphics.
+     */
+    @Override
+    public void paint(Graphics g)
+    {
+        this._exposed = true;
 
-        if (this._cleanCanvas)
+        this._signal.signal();
+    }
+
+    private void render(Drawable drawable, int ticks)
+    {
+        final long start = System.nanoTime();
+        final long pixels;
+        final long drawn;
+
+        if (this._dirtyRendering && drawable == this)
         {
-            graphics.setColor(this.getBackground());
-            graphics.fillRect(0, 0, this.getWidth(), this.getHeight());
+            pixels = this.drawDirty();
+            drawn = System.nanoTime();
+
+            this.showDirty(this.getRenderStrategy());
         }
+        else
+        {
+            final BufferStrategy bufferStrategy = this.getRenderStrategy();
 
-        this.draw((Graphics2D)graphics);
+            if (this._softwareRendering && drawable instanceof Rasterizable)
+            {
+                pixels = this.drawSoftware((Rasterizable)drawable, bufferStrategy);
+            }
+            else
+            {
+                pixels = this.drawBuffered(drawable, bufferStrategy);
+            }
 
-        graphics.dispose();
+            drawn = System.nanoTime();
 
-        bufferStrategy.show();
+            bufferStrategy.show();
+        }
+
+        final long shown = System.nanoTime();
+        final TickScheduler scheduler = this._scheduler;
+
+        this._statistics.recordRender(drawn - start);
+        this._statistics.recordShow(shown - drawn);
+        this._statistics.recordPixels(pixels);
+
+        if (ticks >= 0)
+        {
+            this._statistics.recordTicks(ticks);
+        }
+
+        this._statistics.roll(shown, scheduler.getDroppedTicks(), scheduler.getSkippedRenders());
     }
 
     /** {@inheritDoc} */
     @Override
     public void run()
     {
-        final double nanoSecondConversion = 999998888.0 / this._framesPerSecond;
+        final TickScheduler scheduler;
+        final RenderTarget target;
+        Drawable snapshot = null;
 
-        long lastTime = System.nanoTime();
-        double changeInSeconds = 0;
+        this._signal.setSimulationThread(Thread.currentThread());
 
-        while (true)
+        if (this._concurrent && this._rendersPerSecond > 0)
         {
-            final long now = System.nanoTime();
+            snapshot = this.createSnapshot();
+        }
 
-            changeInSeconds += (now - lastTime) / nanoSecondConversion;
+        if (snapshot != null)
+        {
+            final SnapshotTarget snapshotTarget = new SnapshotTarget(snapshot);
 
-            while (changeInSeconds >= 1)
-            {
-                this.update();
+            scheduler = new TickScheduler(Clock.SYSTEM, this._framesPerSecond, this._maxTicksPerFrame, 0);
+            target = snapshotTarget;
 
-                changeInSeconds--;
-            }
+            snapshotTarget.start();
+        }
+        else
+        {
+            scheduler = new TickScheduler(Clock.SYSTEM, this._framesPerSecond, this._maxTicksPerFrame,
+                    this._maxSkippedRenders);
+            target = new CanvasTarget(scheduler);
+        }
 
-            this.render();
+        this._scheduler = scheduler;
 
-            lastTime = now;
-        }
+        this.loop(scheduler, target);
+    }
+
+    /**
+     * Sets whether only the changed regions of the canvas are repainted. When
+     * enabled, the game is drawn into an image, clipped to the regions reported
+     * by {@link #damage(DirtyRegion)}, and only those regions are copied to the
+     * canvas. This setting has no effect when rendering runs on its own thread.
+     * This method should be called before {@link #start()}.
+     *
+     * @param value {@code true} if only the changed regions are repainted;
+     *              otherwise, {@code false}. The default is {@code false}.
+     */
+    public final void setDirtyRendering(boolean value)
+    {
+        this._dirtyRendering = value;
+    }
+
+    /**
+     * Sets the maximum number of consecutive renders skipped while the game
+     * engine is behind. When more ticks are due than
+     * {@link #setMaxTicksPerFrame(int)} allows, the game engine skips a render
+     * and keeps ticking, up to this many times in a row; after that it renders
+     * and drops the ticks that are still due. Skipped renders are reported by
+     * {@link #getSkippedRenders()} and in the frame statistics. This setting has
+     * no effect when rendering runs on its own thread. This method should be
+     * called before {@link #start()}.
+     *
+     * @param value The maximum number of skipped renders. The default is zero.
+     */
+    public final void setMaxSkippedRenders(int value)
+    {
+        this._maxSkippedRenders = value;
+    }
+
+    /**
+     * Sets the maximum number of ticks run between two renders. When an update
+     * takes longer than a tick, the game engine runs at most this many ticks to
+     * catch up, so it cannot fall into a spiral of ever more catch-up ticks;
+     * the remaining ticks are dropped and reported by
+     * {@link #getDroppedTicks()} and in the frame statistics. This method
+     * should be called before {@link #start()}.
+     *
+     * @param value The maximum number of ticks per frame. The default is 5.
+     */
+    public final void setMaxTicksPerFrame(int value)
+    {
+        this._maxTicksPerFrame = value;
+    }
+
+    /**
+     * Sets whether the frame statistics are drawn over the game. This method
+     * may be called from any thread.
+     *
+     * @param value {@code true} if the frame statistics are shown; otherwise,
+     *              {@code false}. The default is {@code false}.
+     */
+    public final void setOverlayVisible(boolean value)
+    {
+        this._overlay = value;
+
+        this._signal.signal();
+    }
+
+    /**
+     * Sets whether the game is drawn directly into pixels. When enabled and the
+     * game, or its snapshot, implements {@link Rasterizable}, each render
+     * rasterizes the game into an image in memory and copies the image to the
+     * canvas at once. This setting has no effect when only the changed regions
+     * are repainted. This method should be called before {@link #start()}.
+     *
+     * @param value {@code true} if the game is drawn directly into pixels;
+     *              otherwise, {@code false}. The default is {@code false}.
+     */
+    public final void setSoftwareRendering(boolean value)
+    {
+        this._softwareRendering = value;
+    }
+
+    /**
+     * Appends the frame statistics to a log file once per second.
+     *
+     * @param path The path of the log file.
+     * @throws IOException An I/O error occurred while opening the log file.
+     */
+    public final void setStatisticsLog(String path) throws IOException
+    {
+        this._statistics.setLog(path);
     }
 
     /**
@@ -174,6 +808,49 @@ public abstract class GameDriverSlim extends Canvas implements Runnable, KeyList
         this._frame.setTitle(title);
     }
 
+    private void showDirty(BufferStrategy bufferStrategy)
+    {
+        final BufferCapabilities capabilities = bufferStrategy.getCapabilities();
+        boolean all = capabilities.isPageFlipping()
+                && capabilities.getFlipContents() != BufferCapabilities.FlipContents.COPIED;
+
+        while (true)
+        {
+            final Graphics graphics = bufferStrategy.getDrawGraphics();
+
+            if (all)
+            {
+                graphics.drawImage(this._scene, 0, 0, null);
+            }
+            else
+            {
+                for (int i = 0; i < this._dirty.getCount(); i++)
+                {
+                    final int left = this._dirty.getLeft(i);
+                    final int top = this._dirty.getTop(i);
+                    final int right = this._dirty.getRight(i);
+                    final int bottom = this._dirty.getBottom(i);
+
+                    graphics.drawImage(this._scene, left, top, right, bottom, left, top, right, bottom, null);
+                }
+            }
+
+            graphics.dispose();
+
+            if (!bufferStrategy.contentsRestored())
+            {
+                bufferStrategy.show();
+
+                if (!bufferStrategy.contentsLost())
+                {
+                    return;
+                }
+            }
+
+            all = true;
+        }
+    }
+
     /**
      * Starts the game engine on a new thread. This method should only be called
      * once.
@@ -196,4 +873,222 @@ public abstract class GameDriverSlim extends Canvas implements Runnable, KeyList
 
         this.setFocusable(true);
     }
+
+    private void tick()
+    {
+        final long start = System.nanoTime();
+
+        System.arraycopy(this._keysPressed, 0, this._latchedKeysPressed, 0, this._keysPressed.length);
+
+        this.update();
+
+        this._statistics.recordUpdate(System.nanoTime() - start);
+    }
+
+    /**
+     * Shows the frame statistics if they are hidden, or hides them if they are
+     * shown. This method may be called from any thread.
+     */
+    public final void toggleOverlay()
+    {
+        this.setOverlayVisible(!this._overlay);
+    }
+
+    private static void waitUntil(long deadline)
+    {
+        long remaining = deadline - System.nanoTime();
+
+        while (remaining > SPIN_NANOSECONDS)
+        {
+            LockSupport.parkNanos(remaining - SPIN_NANOSECONDS);
+
+            remaining = deadline - System.nanoTime();
+        }
+
+        while (remaining > 0)
+        {
+            Thread.yield();
+
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * Represents the render target that draws each frame on the simulation
+     * thread, at most at the maximum render rate, or continuously if the
+     * render rate is not positive.
+     */
+    private final class CanvasTarget implements RenderTarget
+    {
+        private final TickScheduler _scheduler;
+        private final long _renderNanoseconds;
+
+        private long _nextRender;
+
+        CanvasTarget(TickScheduler scheduler)
+        {
+            this._scheduler = scheduler;
+            this._nextRender = scheduler.getNextTick();
+
+            if (GameDriverSlim.this._rendersPerSecond > 0)
+            {
+                this._renderNanoseconds = NANOSECONDS_PER_SECOND / GameDriverSlim.this._rendersPerSecond;
+            }
+            else
+            {
+                this._renderNanoseconds = 0;
+            }
+        }
+
+        @Override
+        public long getWakeUp(long nextTick)
+        {
+            if (this._nextRender - nextTick < 0)
+            {
+                return this._nextRender;
+            }
+
+            return nextTick;
+        }
+
+        @Override
+        public boolean isDue(long now, int ticks)
+        {
+            return now - this._nextRender >= 0;
+        }
+
+        @Override
+        public void render(long now, int ticks)
+        {
+            GameDriverSlim.this.interpolate(this._scheduler.getInterpolation(now));
+            GameDriverSlim.this.render(GameDriverSlim.this, ticks);
+
+            this._nextRender += this._renderNanoseconds;
+
+            if (now - this._nextRender >= 0)
+            {
+                this._nextRender = now + this._renderNanoseconds;
+            }
+        }
+
+        @Override
+        public void reset(long now)
+        {
+            this._nextRender = now;
+        }
+
+        @Override
+        public void waitForEvent(int events)
+        {
+            GameDriverSlim.this._signal.waitForEvent(events);
+        }
+    }
+
+    /**
+     * Represents the render target that captures a snapshot of the game after
+     * each batch of ticks and draws the most recent snapshot on its own render
+     * thread, at most at the maximum render rate.
+     */
+    private final class SnapshotTarget implements RenderTarget, Runnable
+    {
+        private final TripleBuffer<Drawable> _snapshots;
+        private final long _renderNanoseconds;
+
+        SnapshotTarget(Drawable snapshot)
+        {
+            this._snapshots = new TripleBuffer<Drawable>(snapshot, GameDriverSlim.this.createSnapshot(),
+                    GameDriverSlim.this.createSnapshot());
+            this._renderNanoseconds = NANOSECONDS_PER_SECOND / GameDriverSlim.this._rendersPerSecond;
+
+            GameDriverSlim.this.capture(this._snapshots.getBack());
+
+            this._snapshots.publish();
+        }
+
+        @Override
+        public long getWakeUp(long nextTick)
+        {
+            return nextTick;
+        }
+
+        @Override
+        public boolean isDue(long now, int ticks)
+        {
+            return ticks > 0;
+        }
+
+        @Override
+        public void render(long now, int ticks)
+        {
+            GameDriverSlim.this._statistics.recordTicks(ticks);
+            GameDriverSlim.this.capture(this._snapshots.getBack());
+
+            this._snapshots.publish();
+
+            GameDriverSlim.this._signal.publish();
+        }
+
+        @Override
+        public void reset(long now)
+        {
+        }
+
+        @Override
+        public void run()
+        {
+            final RenderSignal signal = GameDriverSlim.this._signal;
+
+            long nextRender = System.nanoTime();
+
+            while (true)
+            {
+                final int published = signal.getSnapshots();
+                final int events = signal.getEvents();
+                final boolean idle = signal.isIdle();
+
+                GameDriverSlim.this.render(this._snapshots.acquire(), -1);
+
+                if (idle)
+                {
+                    signal.waitForSnapshot(published, events);
+
+                    nextRender = System.nanoTime();
+
+                    continue;
+                }
+
+                nextRender += this._renderNanoseconds;
+
+                final long now = System.nanoTime();
+
+                if (now - nextRender >= 0)
+                {
+                    nextRender = now + this._renderNanoseconds;
+                }
+
+                waitUntil(nextRender);
+            }
+        }
+
+        final void start()
+        {
+            final Thread renderThread = new Thread(this);
+
+            renderThread.setDaemon(true);
+
+            GameDriverSlim.this._signal.setRenderThread(renderThread);
+
+            renderThread.start();
+        }
+
+        @Override
+        public void waitForEvent(int events)
+        {
+            final RenderSignal signal = GameDriverSlim.this._signal;
+
+            signal.setIdle(true);
+            signal.waitForEvent(events);
+            signal.setIdle(false);
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package pong.application.windows;
+
+import java.util.Arrays;
+
+/**
+ * Represents a histogram of non-negative values with logarithmic buckets. Each
+ * power of two is divided into eight buckets, so reported percentiles are
+ * within 12.5% of the recorded values. Recording a value does not allocate.
+ *
+ * @author Ishan Pranav
+ */
+public final class Histogram
+{
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] _counts = new long[(Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+
+    private long _count;
+    private long _maximum;
+
+    /**
+     * Initializes a new instance of the {@link Histogram} class.
+     */
+    public Histogram()
+    {
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return The number of recorded values.
+     */
+    public final long getCount()
+    {
+        return this._count;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return The largest recorded value, or 0 if no values are recorded.
+     */
+    public final long getMaximum()
+    {
+        return this._maximum;
+    }
+
+    /**
+     * Gets the value at or below which a given percentage of recorded values
+     * fall.
+     *
+     * @param percentile The percentage, between 0 and 100.
+     * @return The upper bound of the bucket that contains the percentile, or 0 if
+     *         no values are recorded.
+     */
+    public final long getPercentile(double percentile)
+    {
+        final long rank = Math.max(1, (long)Math.ceil(this._count * percentile / 100));
+        long cumulativeCount = 0;
+
+        for (int i = 0; i < this._counts.length; i++)
+        {
+            cumulativeCount += this._counts[i];
+
+            if (cumulativeCount >= rank)
+            {
+                return Math.min(getUpperBound(i), this._maximum);
+            }
+        }
+
+        return 0;
+    }
+
+    private static long getUpperBound(int index)
+    {
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKETS - 1;
+
+        return ((long)(SUB_BUCKETS + index % SUB_BUCKETS + 1) << shift) - 1;
+    }
+
+    private static int indexOf(long value)
+    {
+        if (value < SUB_BUCKETS)
+        {
+            return (int)value;
+        }
+
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+        return (shift + 1) * SUB_BUCKETS + (int)(value >>> shift & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value The value. Negative values are recorded as 0.
+     */
+    public final void record(long value)
+    {
+        if (value < 0)
+        {
+            value = 0;
+        }
+
+        this._counts[indexOf(value)]++;
+        this._count++;
+
+        if (value > this._maximum)
+        {
+            this._maximum = value;
+        }
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public final void reset()
+    {
+        Arrays.fill(this._counts, 0);
+
+        this._count = 0;
+        this._maximum = 0;
+    }
+}
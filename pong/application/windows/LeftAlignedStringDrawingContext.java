@@ -0,0 +1,55 @@
+package pong.application.windows;
+
+import java.awt.Graphics2D;
+
+/**
+ * A {@link StringDrawingContext} used to draw left-aligned strings.
+ *
+ * @author Ishan Pranav
+ */
+public class LeftAlignedStringDrawingContext extends StringDrawingContext
+{
+    private final int _horizontalPosition;
+
+    private int _verticalPosition;
+
+    /**
+     * Initializes a new instance of the {@link LeftAlignedStringDrawingContext}
+     * class.
+     *
+     * @param graphics2D         The two-dimensional graphics.
+     * @param horizontalPosition The horizontal position from which to begin
+     *                           drawing.
+     * @param verticalPosition   The vertical position from which to begin drawing.
+     */
+    public LeftAlignedStringDrawingContext(Graphics2D graphics2D, int horizontalPosition, int verticalPosition)
+    {
+        super(graphics2D);
+
+        this._horizontalPosition = horizontalPosition;
+        this._verticalPosition = verticalPosition;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void drawCore(String value)
+    {
+        this._verticalPosition += this.getLineHeight();
+
+        this.drawString(value, this._horizontalPosition, this._verticalPosition);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int getVerticalPosition()
+    {
+        return this._verticalPosition;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void setVerticalPosition(int value)
+    {
+        this._verticalPosition = value;
+    }
+}
@@ -0,0 +1,123 @@
+package pong.application.windows;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Represents an opaque image whose pixels are written directly. Rectangles are
+ * clipped to the image and filled one row at a time into the integer array
+ * behind the image, bypassing {@link Graphics2D}. Text and other shapes can
+ * still be drawn with the graphics of the image. Filling rectangles does not
+ * allocate.
+ *
+ * @author Ishan Pranav
+ */
+public final class PixelCanvas
+{
+    private final BufferedImage _image;
+    private final int[] _pixels;
+    private final int _width;
+    private final int _height;
+
+    private Graphics2D _graphics2D;
+
+    /**
+     * Initializes a new instance of the {@link PixelCanvas} class.
+     *
+     * @param width  The width.
+     * @param height The height.
+     */
+    public PixelCanvas(int width, int height)
+    {
+        this._image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        this._pixels = ((DataBufferInt)this._image.getRaster().getDataBuffer()).getData();
+        this._width = width;
+        this._height = height;
+    }
+
+    /**
+     * Fills the whole canvas with a color.
+     *
+     * @param color The color.
+     */
+    public final void clear(Color color)
+    {
+        Arrays.fill(this._pixels, color.getRGB());
+    }
+
+    /**
+     * Fills a rectangle with a color. The parts of the rectangle outside the
+     * canvas are ignored.
+     *
+     * @param horizontalPosition The horizontal position of the rectangle.
+     * @param verticalPosition   The vertical position of the rectangle.
+     * @param width              The width of the rectangle.
+     * @param height             The height of the rectangle.
+     * @param rgb                The color, as a packed RGB value. The alpha
+     *                           component is ignored.
+     */
+    public final void fill(int horizontalPosition, int verticalPosition, int width, int height, int rgb)
+    {
+        final int left = Math.max(0, horizontalPosition);
+        final int top = Math.max(0, verticalPosition);
+        final int right = Math.min(this._width, horizontalPosition + width);
+        final int bottom = Math.min(this._height, verticalPosition + height);
+
+        if (left < right)
+        {
+            for (int offset = top * this._width; offset < bottom * this._width; offset += this._width)
+            {
+                Arrays.fill(this._pixels, offset + left, offset + right, rgb);
+            }
+        }
+    }
+
+    /**
+     * Gets the graphics used to draw on the canvas. The same graphics is returned
+     * each time.
+     *
+     * @return The two-dimensional graphics.
+     */
+    public final Graphics2D getGraphics2D()
+    {
+        if (this._graphics2D == null)
+        {
+            this._graphics2D = this._image.createGraphics();
+        }
+
+        return this._graphics2D;
+    }
+
+    /**
+     * Gets the height.
+     *
+     * @return The height.
+     */
+    public final int getHeight()
+    {
+        return this._height;
+    }
+
+    /**
+     * Gets the image behind the canvas.
+     *
+     * @return The image.
+     */
+    public final BufferedImage getImage()
+    {
+        return this._image;
+    }
+
+    /**
+     * Gets the width.
+     *
+     * @return The width.
+     */
+    public final int getWidth()
+    {
+        return this._width;
+    }
+}
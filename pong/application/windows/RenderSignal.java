@@ -0,0 +1,136 @@
+package pong.application.windows;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Represents the wake-ups exchanged by the threads of a game engine. Key and
+ * paint events wake every thread, and each published snapshot wakes the render
+ * thread. A thread reads the counters before it draws and waits only while
+ * they are unchanged, so a wake-up sent while it is drawing is never lost.
+ *
+ * @author Ishan Pranav
+ */
+public final class RenderSignal
+{
+    private volatile int _events;
+    private volatile int _snapshots;
+    private volatile boolean _idle;
+    private volatile Thread _simulationThread;
+    private volatile Thread _renderThread;
+
+    /**
+     * Gets the number of key and paint events received.
+     *
+     * @return The number of events.
+     */
+    public final int getEvents()
+    {
+        return this._events;
+    }
+
+    /**
+     * Gets the number of snapshots published by the simulation thread.
+     *
+     * @return The number of snapshots.
+     */
+    public final int getSnapshots()
+    {
+        return this._snapshots;
+    }
+
+    /**
+     * Gets a value indicating whether the simulation thread is waiting for an
+     * event. The render thread must read this value after it reads
+     * {@link #getSnapshots()}.
+     *
+     * @return {@code true} if the simulation thread is waiting for an event;
+     *         otherwise, {@code false}.
+     */
+    public final boolean isIdle()
+    {
+        return this._idle;
+    }
+
+    /**
+     * Records that the simulation thread published a snapshot and wakes the
+     * render thread.
+     */
+    public final void publish()
+    {
+        this._snapshots++;
+
+        LockSupport.unpark(this._renderThread);
+    }
+
+    /**
+     * Sets whether the simulation thread is waiting for an event.
+     *
+     * @param value {@code true} if the simulation thread is waiting for an
+     *              event; otherwise, {@code false}.
+     */
+    public final void setIdle(boolean value)
+    {
+        this._idle = value;
+    }
+
+    /**
+     * Sets the thread that renders snapshots.
+     *
+     * @param value The render thread.
+     */
+    public final void setRenderThread(Thread value)
+    {
+        this._renderThread = value;
+    }
+
+    /**
+     * Sets the thread that updates the game.
+     *
+     * @param value The simulation thread.
+     */
+    public final void setSimulationThread(Thread value)
+    {
+        this._simulationThread = value;
+    }
+
+    /**
+     * Records a key or paint event and wakes every thread.
+     */
+    public final void signal()
+    {
+        this._events++;
+
+        LockSupport.unpark(this._simulationThread);
+        LockSupport.unpark(this._renderThread);
+    }
+
+    /**
+     * Waits until an event is received.
+     *
+     * @param events The number of events read before the current thread last
+     *               drew.
+     */
+    public final void waitForEvent(int events)
+    {
+        while (this._events == events)
+        {
+            LockSupport.park(this);
+        }
+    }
+
+    /**
+     * Waits until an event is received or a snapshot is published.
+     *
+     * @param snapshots The number of snapshots read before the current thread
+     *                  last drew.
+     * @param events    The number of events read before the current thread last
+     *                  drew.
+     */
+    public final void waitForSnapshot(int snapshots, int events)
+    {
+        while (this._snapshots == snapshots && this._events == events)
+        {
+            LockSupport.park(this);
+        }
+    }
+}
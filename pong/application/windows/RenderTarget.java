@@ -0,0 +1,51 @@
+package pong.application.windows;
+
+/**
+ * Defines the target to which the game loop sends its frames. The game engine
+ * runs a single loop driven by a {@link TickScheduler}: it runs the ticks that
+ * are due and then offers a frame to the render target, which decides whether
+ * the frame is rendered, how the loop waits for an event and when it wakes.
+ *
+ * @author Ishan Pranav
+ */
+interface RenderTarget
+{
+    /**
+     * Gets the time at which the game loop next wakes up.
+     *
+     * @param nextTick The time at which the next tick is due, in nanoseconds.
+     * @return The time, in nanoseconds.
+     */
+    long getWakeUp(long nextTick);
+
+    /**
+     * Determines whether the frame is rendered.
+     *
+     * @param now   The current time, in nanoseconds.
+     * @param ticks The number of ticks run since the previous frame.
+     * @return {@code true} if the frame is rendered; otherwise, {@code false}.
+     */
+    boolean isDue(long now, int ticks);
+
+    /**
+     * Renders the frame.
+     *
+     * @param now   The current time, in nanoseconds.
+     * @param ticks The number of ticks run since the previous frame.
+     */
+    void render(long now, int ticks);
+
+    /**
+     * Begins again after the game loop has waited for an event.
+     *
+     * @param now The current time, in nanoseconds.
+     */
+    void reset(long now);
+
+    /**
+     * Waits until an event arrives after the game has become static.
+     *
+     * @param events The number of events observed before the frame.
+     */
+    void waitForEvent(int events);
+}
@@ -2,19 +2,33 @@ package pong.application.windows;
 
 import java.awt.Font;
 import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.HashMap;
 
 /**
  * Defines the core behavior of a string drawing context and provides a base for
- * derived classes.
+ * derived classes. Fonts, keyed by name, style and size, line breaks and string
+ * widths are cached, and digits
+ * are drawn from a pre-rendered atlas, so a context that is reused from frame
+ * to frame draws text it has drawn before without allocating. The caches
+ * belong to the context, so contexts drawn on different threads share nothing;
+ * a single context is not thread-safe.
  *
  * @author Ishan Pranav
  */
 public abstract class StringDrawingContext
 {
-    private final Graphics2D _graphics2D;
+    private static final int CAPACITY = 256;
 
+    private final HashMap<String, String[]> _lines = new HashMap<String, String[]>();
+    private final HashMap<FontKey, CachedFont> _fonts = new HashMap<FontKey, CachedFont>();
+    private final FontKey _key = new FontKey("", Font.PLAIN, 0);
+
+    private Graphics2D _graphics2D;
     private String _fontName = "Segoe UI";
+    private int _fontStyle = Font.PLAIN;
     private int _size = 24;
+    private CachedFont _font;
 
     /**
      * Called from constructors in derived classes to initialize the
@@ -34,7 +48,16 @@ public abstract class StringDrawingContext
      */
     public void draw(int value)
     {
-        this.draw(Integer.toString(value));
+        this._graphics2D.setFont(this.getFont().getFont());
+
+        if (value < 0)
+        {
+            this.drawCore(Integer.toString(value));
+        }
+        else
+        {
+            this.drawCore(value);
+        }
     }
 
     /**
@@ -44,14 +67,25 @@ public abstract class StringDrawingContext
      */
     public final void draw(String value)
     {
-        this._graphics2D.setFont(new Font(this._fontName, Font.PLAIN, this._size));
+        this._graphics2D.setFont(this.getFont().getFont());
 
-        for (final String line : value.split("\n"))
+        for (final String line : this.getLines(value))
         {
             this.drawCore(line);
         }
     }
 
+    /**
+     * When overridden in a derived class, draws the non-negative integer value.
+     * The default implementation draws the string representation of the value.
+     *
+     * @param value The value.
+     */
+    protected void drawCore(int value)
+    {
+        this.drawCore(Integer.toString(value));
+    }
+
     /**
      * When overridden in a derived class, draws the string value.
      *
@@ -59,6 +93,53 @@ public abstract class StringDrawingContext
      */
     protected abstract void drawCore(String value);
 
+    /**
+     * Draws the non-negative integer value at the given baseline position using
+     * the current font.
+     *
+     * @param value              The value.
+     * @param horizontalPosition The horizontal position.
+     * @param verticalPosition   The vertical position of the baseline.
+     */
+    protected final void drawString(int value, int horizontalPosition, int verticalPosition)
+    {
+        this.getFont().draw(this._graphics2D, value, horizontalPosition, verticalPosition);
+    }
+
+    /**
+     * Draws the string value at the given baseline position using the current
+     * font.
+     *
+     * @param value              The value.
+     * @param horizontalPosition The horizontal position.
+     * @param verticalPosition   The vertical position of the baseline.
+     */
+    protected final void drawString(String value, int horizontalPosition, int verticalPosition)
+    {
+        this._graphics2D.drawString(value, horizontalPosition, verticalPosition);
+    }
+
+    private CachedFont getFont()
+    {
+        if (this._font == null)
+        {
+            this._key.set(this._fontName, this._fontStyle, this._size);
+
+            CachedFont font = this._fonts.get(this._key);
+
+            if (font == null)
+            {
+                font = new CachedFont(this._fontName, this._fontStyle, this._size);
+
+                this._fonts.put(this._key.copy(), font);
+            }
+
+            this._font = font;
+        }
+
+        return this._font;
+    }
+
     /**
      * Gets the two-dimensional graphics.
      *
@@ -69,6 +150,78 @@ public abstract class StringDrawingContext
         return this._graphics2D;
     }
 
+    /**
+     * Gets the height of a line of text in the current font.
+     *
+     * @return The line height.
+     */
+    protected final int getLineHeight()
+    {
+        return this.getFont().getHeight(this._graphics2D);
+    }
+
+    private String[] getLines(String value)
+    {
+        String[] result = this._lines.get(value);
+
+        if (result == null)
+        {
+            final ArrayList<String> lines = new ArrayList<String>();
+            int start = 0;
+            int end;
+
+            while ((end = value.indexOf('\n', start)) >= 0)
+            {
+                lines.add(value.substring(start, end));
+
+                start = end + 1;
+            }
+
+            lines.add(value.substring(start));
+
+            if (this._lines.size() == CAPACITY)
+            {
+                this._lines.clear();
+            }
+
+            result = lines.toArray(new String[lines.size()]);
+
+            this._lines.put(value, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * When overridden in a derived class, gets the vertical position from which
+     * drawing continues. After drawing, this is below the last line drawn.
+     *
+     * @return The vertical position.
+     */
+    public abstract int getVerticalPosition();
+
+    /**
+     * Measures the width of the non-negative integer value in the current font.
+     *
+     * @param value The value.
+     * @return The width.
+     */
+    protected final int getWidth(int value)
+    {
+        return this.getFont().getWidth(this._graphics2D, value);
+    }
+
+    /**
+     * Measures the width of the string value in the current font.
+     *
+     * @param value The value.
+     * @return The width.
+     */
+    protected final int getWidth(String value)
+    {
+        return this.getFont().getWidth(this._graphics2D, value);
+    }
+
     /**
      * Sets the font name.
      *
@@ -77,6 +230,30 @@ public abstract class StringDrawingContext
     public final void setFontName(String value)
     {
         this._fontName = value;
+        this._font = null;
+    }
+
+    /**
+     * Sets the font style.
+     *
+     * @param value The font style, as a combination of the {@link Font} style
+     *              constants. The default is {@link Font#PLAIN}.
+     */
+    public final void setFontStyle(int value)
+    {
+        this._fontStyle = value;
+        this._font = null;
+    }
+
+    /**
+     * Sets the two-dimensional graphics. This allows a context to be reused
+     * across frames.
+     *
+     * @param value The two-dimensional graphics.
+     */
+    public final void setGraphics2D(Graphics2D value)
+    {
+        this._graphics2D = value;
     }
 
     /**
@@ -87,5 +264,14 @@ public abstract class StringDrawingContext
     public final void setSize(int value)
     {
         this._size = value;
+        this._font = null;
     }
+
+    /**
+     * When overridden in a derived class, sets the vertical position from which
+     * to continue drawing.
+     *
+     * @param value The vertical position.
+     */
+    public abstract void setVerticalPosition(int value);
 }
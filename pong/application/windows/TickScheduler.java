@@ -0,0 +1,198 @@
+package pong.application.windows;
+
+/**
+ * Represents the policy that decides how many ticks a game engine runs between
+ * two renders. Ticks fall due at a fixed rate, and at most a fixed number of
+ * them run per frame, so a slow update cannot cause a spiral of ever more
+ * catch-up ticks. While ticks are still due, up to a fixed number of
+ * consecutive renders may be skipped; after that, the ticks still due are
+ * dropped and the game runs slower than real time instead of falling further
+ * behind. Time is read from a {@link Clock}, so the policy can be run without
+ * real time.
+ * <p>
+ * The scheduler is driven by a single thread. The totals of dropped ticks and
+ * skipped renders may be read from any thread.
+ *
+ * @author Ishan Pranav
+ */
+public final class TickScheduler
+{
+    private static final long NANOSECONDS_PER_SECOND = 1000000000L;
+
+    private final Clock _clock;
+    private final long _tickNanoseconds;
+    private final int _maxTicksPerFrame;
+    private final int _maxSkippedRenders;
+
+    private long _nextTick;
+    private int _frameTicks;
+    private int _frameSkippedRenders;
+    private volatile long _droppedTicks;
+    private volatile long _skippedRenders;
+
+    /**
+     * Initializes a new instance of the {@link TickScheduler} class. The first
+     * tick is due at once.
+     *
+     * @param clock             The clock.
+     * @param ticksPerSecond    The tick rate, in ticks per second.
+     * @param maxTicksPerFrame  The maximum number of ticks run between two
+     *                          renders.
+     * @param maxSkippedRenders The maximum number of consecutive renders
+     *                          skipped while ticks are still due.
+     */
+    public TickScheduler(Clock clock, int ticksPerSecond, int maxTicksPerFrame, int maxSkippedRenders)
+    {
+        if (ticksPerSecond <= 0)
+        {
+            throw new IllegalArgumentException("ticksPerSecond");
+        }
+
+        if (maxTicksPerFrame <= 0)
+        {
+            throw new IllegalArgumentException("maxTicksPerFrame");
+        }
+
+        if (maxSkippedRenders < 0)
+        {
+            throw new IllegalArgumentException("maxSkippedRenders");
+        }
+
+        this._clock = clock;
+        this._tickNanoseconds = NANOSECONDS_PER_SECOND / ticksPerSecond;
+        this._maxTicksPerFrame = maxTicksPerFrame;
+        this._maxSkippedRenders = maxSkippedRenders;
+        this._nextTick = clock.nanoTime();
+    }
+
+    /**
+     * Gets the number of ticks dropped because the game engine fell behind.
+     *
+     * @return The total number of dropped ticks.
+     */
+    public final long getDroppedTicks()
+    {
+        return this._droppedTicks;
+    }
+
+    /**
+     * Gets the fraction of a tick that has elapsed since the most recent tick.
+     *
+     * @param now The current time, in nanoseconds.
+     * @return The fraction, from zero inclusive to one exclusive, unless a
+     *         tick is due.
+     */
+    public final double getInterpolation(long now)
+    {
+        return 1 - (double)(this._nextTick - now) / this._tickNanoseconds;
+    }
+
+    /**
+     * Gets the time at which the next tick is due.
+     *
+     * @return The time, in nanoseconds.
+     */
+    public final long getNextTick()
+    {
+        return this._nextTick;
+    }
+
+    /**
+     * Gets the number of renders skipped to catch up with the ticks that are
+     * due.
+     *
+     * @return The total number of skipped renders.
+     */
+    public final long getSkippedRenders()
+    {
+        return this._skippedRenders;
+    }
+
+    /**
+     * Determines whether the current frame runs another tick: a tick is due
+     * and the frame has not yet run the maximum number of ticks.
+     *
+     * @param now The current time, in nanoseconds.
+     * @return {@code true} if a tick should run; otherwise, {@code false}.
+     */
+    public final boolean isDue(long now)
+    {
+        return now - this._nextTick >= 0 && this._frameTicks < this._maxTicksPerFrame;
+    }
+
+    /**
+     * Gets the current time from the clock.
+     *
+     * @return The current time, in nanoseconds.
+     */
+    public final long now()
+    {
+        return this._clock.nanoTime();
+    }
+
+    /**
+     * Records a render and begins a new frame.
+     */
+    public final void render()
+    {
+        this._frameTicks = 0;
+        this._frameSkippedRenders = 0;
+    }
+
+    /**
+     * Makes the next tick due at the given time and begins a new frame. This
+     * method is called when the game engine resumes after waiting.
+     *
+     * @param now The current time, in nanoseconds.
+     */
+    public final void reset(long now)
+    {
+        this._nextTick = now;
+
+        this.render();
+    }
+
+    /**
+     * Decides what follows the ticks of the current frame while ticks are
+     * still due. If fewer than the maximum number of consecutive renders were
+     * skipped, the render is skipped and a new frame begins; otherwise, the
+     * ticks that are due are dropped. This method does nothing if no tick is
+     * due.
+     *
+     * @param now The current time, in nanoseconds.
+     * @return {@code true} if the render is skipped; otherwise,
+     *         {@code false}.
+     */
+    public final boolean skipRender(long now)
+    {
+        if (now - this._nextTick < 0)
+        {
+            return false;
+        }
+
+        if (this._frameSkippedRenders < this._maxSkippedRenders)
+        {
+            this._frameSkippedRenders++;
+            this._frameTicks = 0;
+            this._skippedRenders++;
+
+            return true;
+        }
+
+        final long droppedTicks = (now - this._nextTick) / this._tickNanoseconds + 1;
+
+        this._nextTick += droppedTicks * this._tickNanoseconds;
+        this._droppedTicks += droppedTicks;
+
+        return false;
+    }
+
+    /**
+     * Records that a due tick ran.
+     */
+    public final void tick()
+    {
+        this._nextTick += this._tickNanoseconds;
+        this._frameTicks++;
+    }
+}
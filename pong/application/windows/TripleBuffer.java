@@ -0,0 +1,79 @@
+package pong.application.windows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents a lock-free handoff of values from one producer thread to one
+ * consumer thread. The producer writes into a back buffer and publishes it; the
+ * consumer acquires the most recently published buffer. Neither thread ever
+ * blocks the other, and neither thread ever observes a buffer that the other
+ * thread is using.
+ *
+ * @param <T> The type of the buffers.
+ * @author Ishan Pranav
+ */
+public final class TripleBuffer<T>
+{
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final Object[] _buffers;
+    private final AtomicInteger _middle = new AtomicInteger(2);
+
+    private int _back;
+    private int _front = 1;
+
+    /**
+     * Initializes a new instance of the {@link TripleBuffer} class.
+     *
+     * @param first  The first buffer.
+     * @param second The second buffer.
+     * @param third  The third buffer.
+     */
+    public TripleBuffer(T first, T second, T third)
+    {
+        this._buffers = new Object[]
+        {
+            first, second, third
+        };
+    }
+
+    /**
+     * Gets the most recently published buffer. This method must only be called
+     * by the consumer thread.
+     *
+     * @return The most recently published buffer.
+     */
+    @SuppressWarnings("unchecked")
+    public final T acquire()
+    {
+        if ((this._middle.get() & FRESH) != 0)
+        {
+            this._front = this._middle.getAndSet(this._front) & INDEX_MASK;
+        }
+
+        return (T)this._buffers[this._front];
+    }
+
+    /**
+     * Gets the back buffer. This method must only be called by the producer
+     * thread.
+     *
+     * @return The back buffer.
+     */
+    @SuppressWarnings("unchecked")
+    public final T getBack()
+    {
+        return (T)this._buffers[this._back];
+    }
+
+    /**
+     * Publishes the back buffer to the consumer thread and replaces it with a
+     * buffer that the consumer thread no longer uses. This method must only be
+     * called by the producer thread.
+     */
+    public final void publish()
+    {
+        this._back = this._middle.getAndSet(this._back | FRESH) & INDEX_MASK;
+    }
+}